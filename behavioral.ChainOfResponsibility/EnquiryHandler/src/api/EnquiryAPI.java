@@ -1,9 +1,96 @@
 package api;
 
+import classifier.EnquiryClassifier;
+import classifier.MappedFileClassifier;
 import factory.EnquiryHandlerFactory;
+import models.ClassificationSummary;
+import models.EnquiryResult;
+import models.EnquiryType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class EnquiryAPI {
+    private final ForkJoinPool pool;
+
+    public EnquiryAPI() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    // Bulk classification runs on this pool, its parallelism decides how many cores are used.
+    public EnquiryAPI(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
     public void handleEnquiry(String enquiry) {
         EnquiryHandlerFactory.getEnquiryHandler().handle(enquiry);
     }
+
+    // Same decision as the handler chain, without the logging.
+    public EnquiryType classify(String enquiry) {
+        return EnquiryHandlerFactory.getClassifier().classify(enquiry);
+    }
+
+    /*
+        Classifies every enquiry in parallel and hands each (enquiry, type) pair to the sink.
+        With ordered=true the sink sees results in input order, otherwise as soon as they are ready,
+        from several threads at once - so the sink has to be thread safe in that case.
+     */
+    public ClassificationSummary classifyAll(Stream<String> enquiries, boolean ordered, Consumer<EnquiryResult> sink) {
+        EnquiryClassifier classifier = EnquiryHandlerFactory.getClassifier();
+        LongAdder[] counts = new LongAdder[EnquiryType.values().length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+        Stream<EnquiryResult> results = enquiries.parallel().map(enquiry -> {
+            EnquiryType enquiryType = classifier.classify(enquiry);
+            counts[enquiryType.ordinal()].increment();
+            return new EnquiryResult(enquiry, enquiryType);
+        });
+        // A parallel stream runs its tasks in the pool it was started from.
+        this.pool.submit(() -> {
+            if (ordered) {
+                results.forEachOrdered(sink);
+            } else {
+                results.forEach(sink);
+            }
+        }).join();
+        long[] totals = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            totals[i] = counts[i].sum();
+        }
+        return new ClassificationSummary(totals);
+    }
+
+    public ClassificationSummary classifyAll(Iterator<String> enquiries, boolean ordered, Consumer<EnquiryResult> sink) {
+        Stream<String> stream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(enquiries, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        return classifyAll(stream, ordered, sink);
+    }
+
+    // One enquiry per line, UTF-8. Blank lines are skipped, as in classifyMappedFile (EnquiryClassifier.isBlankLine).
+    public ClassificationSummary classifyFile(Path file, boolean ordered, Consumer<EnquiryResult> sink) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return classifyAll(lines.filter(line -> !EnquiryClassifier.isBlankLine(line)), ordered, sink);
+        }
+    }
+
+    /*
+        For large offline batches: maps the file and classifies chunks of whole lines on the bytes, counts only.
+        Lines end at \n, \r or \r\n and blank lines are skipped, as in classifyFile, so a well formed UTF-8 file gets
+        the same counts. Malformed UTF-8 is not checked here: its lines are counted where classifyFile throws.
+     */
+    public ClassificationSummary classifyMappedFile(Path file) throws IOException {
+        return new MappedFileClassifier(EnquiryHandlerFactory.getClassifier()).classify(file, this.pool);
+    }
 }
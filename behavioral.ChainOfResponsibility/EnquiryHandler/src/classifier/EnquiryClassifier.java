@@ -0,0 +1,121 @@
+package classifier;
+
+import models.EnquiryType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+
+/*
+    Decides the EnquiryType of a text in one pass. Types are checked in the order they are given,
+    which for the defaults is the old chain order: Academic -> Projects -> Subscription -> Unknown.
+ */
+public class EnquiryClassifier {
+    private final EnquiryType[] types;
+    private final KeywordAutomaton automaton;
+    private final KeywordAutomaton byteAutomaton;
+
+    // Insertion order of the map is the priority order.
+    public EnquiryClassifier(LinkedHashMap<EnquiryType, List<String>> keywordsByType) {
+        this.types = keywordsByType.keySet().toArray(new EnquiryType[0]);
+        this.automaton = new KeywordAutomaton(new ArrayList<>(keywordsByType.values()));
+        this.byteAutomaton = KeywordAutomaton.forUtf8Bytes(new ArrayList<>(keywordsByType.values()));
+    }
+
+    public static EnquiryClassifier withDefaultKeywords() {
+        LinkedHashMap<EnquiryType, List<String>> keywords = new LinkedHashMap<>();
+        keywords.put(EnquiryType.ACADEMIC, Arrays.asList("NLP", "Data Science", "Low Level Design"));
+        keywords.put(EnquiryType.PROJECTS, Arrays.asList("project", "submission", "timeline"));
+        keywords.put(EnquiryType.SUBSCRIPTION, Arrays.asList("Subscription", "Validity", "Expiry"));
+        return new EnquiryClassifier(keywords);
+    }
+
+    /*
+        Properties file, one comma separated keyword list per type, e.g.
+            ACADEMIC=NLP,Data Science,Low Level Design
+            PROJECTS=project,submission,timeline
+        An optional "priority" entry (ACADEMIC,PROJECTS,...) sets the order, otherwise EnquiryType order is used.
+     */
+    public static EnquiryClassifier fromProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        List<EnquiryType> order = new ArrayList<>();
+        String priority = properties.getProperty("priority");
+        if (priority != null) {
+            for (String type : priority.split(",")) {
+                order.add(EnquiryType.valueOf(type.trim()));
+            }
+        } else {
+            order.addAll(Arrays.asList(EnquiryType.values()));
+        }
+        LinkedHashMap<EnquiryType, List<String>> keywords = new LinkedHashMap<>();
+        for (EnquiryType type : order) {
+            String value = properties.getProperty(type.name());
+            if (value == null) {
+                continue;
+            }
+            List<String> typeKeywords = new ArrayList<>();
+            for (String keyword : value.split(",")) {
+                if (!keyword.trim().isEmpty()) {
+                    typeKeywords.add(keyword.trim());
+                }
+            }
+            keywords.put(type, typeKeywords);
+        }
+        return new EnquiryClassifier(keywords);
+    }
+
+    // Uses the file named by -Denquiry.keywords when set, the built in keywords otherwise.
+    public static EnquiryClassifier load() {
+        String location = System.getProperty("enquiry.keywords");
+        if (location == null) {
+            return withDefaultKeywords();
+        }
+        try {
+            return fromProperties(Path.of(location));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read enquiry keywords from " + location, e);
+        }
+    }
+
+    /*
+        The rule both file classifiers use: a line of nothing but spaces, tabs and carriage returns is not an enquiry
+        and is not counted at all, not even as UNKNOWN.
+     */
+    public static boolean isBlankLine(CharSequence line) {
+        for (int i = 0, length = line.length(); i < length; i++) {
+            char ch = line.charAt(i);
+            if (ch != ' ' && ch != '\t' && ch != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public EnquiryType classify(CharSequence enquiry) {
+        int group = this.automaton.match(enquiry);
+        return group == KeywordAutomaton.NO_MATCH ? EnquiryType.UNKNOWN : this.types[group];
+    }
+
+    /*
+        Classifies every line of UTF-8 text in buffer[from, to) without decoding it, countsByType is indexed by ordinal.
+        Blank lines are skipped, see isBlankLine.
+     */
+    public void countLines(ByteBuffer buffer, int from, int to, long[] countsByType) {
+        long[] lineCounts = new long[this.types.length + 1];
+        this.byteAutomaton.countLines(buffer, from, to, lineCounts);
+        for (int group = 0; group < this.types.length; group++) {
+            countsByType[this.types[group].ordinal()] += lineCounts[group];
+        }
+        countsByType[EnquiryType.UNKNOWN.ordinal()] += lineCounts[this.types.length];
+    }
+}
@@ -0,0 +1,198 @@
+package classifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/*
+    Aho-Corasick automaton over groups of keywords. Groups are given in priority order (index 0 wins),
+    match() walks the text once and returns the best group that has any keyword in it.
+    Failure links are folded into a dense transition table, so each character costs one array lookup.
+    An automaton built with forUtf8Bytes() matches raw UTF-8 bytes instead of chars; since UTF-8 never
+    starts a character in the middle of another, a byte match is exactly a match of the decoded text.
+ */
+public class KeywordAutomaton {
+    public static final int NO_MATCH = -1;
+
+    private final int[] charClasses;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[] bestGroupAt;
+    private final int groupCount;
+
+    public KeywordAutomaton(List<List<String>> keywordGroups) {
+        this(encode(keywordGroups, false), keywordGroups.size());
+    }
+
+    public static KeywordAutomaton forUtf8Bytes(List<List<String>> keywordGroups) {
+        return new KeywordAutomaton(encode(keywordGroups, true), keywordGroups.size());
+    }
+
+    private KeywordAutomaton(List<List<int[]>> keywordGroups, int groupCount) {
+        this.groupCount = groupCount;
+        // Only symbols that occur in some keyword get their own class, everything else is class 0.
+        int maxSymbol = 0;
+        for (List<int[]> group : keywordGroups) {
+            for (int[] keyword : group) {
+                for (int symbol : keyword) {
+                    maxSymbol = Math.max(maxSymbol, symbol);
+                }
+            }
+        }
+        this.charClasses = new int[maxSymbol + 1];
+        int classes = 1;
+        for (List<int[]> group : keywordGroups) {
+            for (int[] keyword : group) {
+                for (int symbol : keyword) {
+                    if (this.charClasses[symbol] == 0) {
+                        this.charClasses[symbol] = classes++;
+                    }
+                }
+            }
+        }
+        this.alphabetSize = classes;
+
+        // Trie.
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<Integer> groups = new ArrayList<>();
+        children.add(new HashMap<>());
+        groups.add(Integer.MAX_VALUE);
+        for (int group = 0; group < keywordGroups.size(); group++) {
+            for (int[] keyword : keywordGroups.get(group)) {
+                if (keyword.length == 0) {
+                    continue;
+                }
+                int state = 0;
+                for (int code : keyword) {
+                    int symbol = this.charClasses[code];
+                    Integer next = children.get(state).get(symbol);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new HashMap<>());
+                        groups.add(Integer.MAX_VALUE);
+                        children.get(state).put(symbol, next);
+                    }
+                    state = next;
+                }
+                groups.set(state, Math.min(groups.get(state), group));
+            }
+        }
+
+        // Breadth first over the trie to fill failure transitions and inherit outputs along failure links.
+        int states = children.size();
+        this.transitions = new int[states * this.alphabetSize];
+        this.bestGroupAt = new int[states];
+        int[] failure = new int[states];
+        for (int state = 0; state < states; state++) {
+            this.bestGroupAt[state] = groups.get(state);
+        }
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < this.alphabetSize; symbol++) {
+            Integer child = children.get(0).get(symbol);
+            if (child != null) {
+                this.transitions[symbol] = child;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            this.bestGroupAt[state] = Math.min(this.bestGroupAt[state], this.bestGroupAt[failure[state]]);
+            for (int symbol = 0; symbol < this.alphabetSize; symbol++) {
+                Integer child = children.get(state).get(symbol);
+                int fallback = this.transitions[failure[state] * this.alphabetSize + symbol];
+                if (child != null) {
+                    failure[child] = fallback;
+                    this.transitions[state * this.alphabetSize + symbol] = child;
+                    queue.add(child);
+                } else {
+                    this.transitions[state * this.alphabetSize + symbol] = fallback;
+                }
+            }
+        }
+    }
+
+    public int match(CharSequence text) {
+        int state = 0;
+        int best = Integer.MAX_VALUE;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char ch = text.charAt(i);
+            int symbol = ch < this.charClasses.length ? this.charClasses[ch] : 0;
+            state = this.transitions[state * this.alphabetSize + symbol];
+            if (this.bestGroupAt[state] < best) {
+                best = this.bestGroupAt[state];
+                if (best == 0) {
+                    break;
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? NO_MATCH : best;
+    }
+
+    /*
+        Byte automatons only. Treats buffer[from, to) as lines and adds one to lineCounts[group] for every non blank
+        line, lineCounts[groupCount()] when nothing matched. Lines end at \n, \r or \r\n like BufferedReader.readLine,
+        the empty line between \r and \n is blank. Blank means the same as EnquiryClassifier.isBlankLine.
+     */
+    public void countLines(ByteBuffer buffer, int from, int to, long[] lineCounts) {
+        int state = 0;
+        int best = Integer.MAX_VALUE;
+        boolean blank = true;
+        for (int i = from; i < to; i++) {
+            int code = buffer.get(i) & 0xFF;
+            if (code == '\n' || code == '\r') {
+                if (!blank) {
+                    lineCounts[best == Integer.MAX_VALUE ? this.groupCount : best]++;
+                }
+                state = 0;
+                best = Integer.MAX_VALUE;
+                blank = true;
+                continue;
+            }
+            if (code != ' ' && code != '\t') {
+                blank = false;
+            }
+            if (best == 0) {
+                // Nothing can beat the top group, just look for the end of the line.
+                continue;
+            }
+            int symbol = code < this.charClasses.length ? this.charClasses[code] : 0;
+            state = this.transitions[state * this.alphabetSize + symbol];
+            if (this.bestGroupAt[state] < best) {
+                best = this.bestGroupAt[state];
+            }
+        }
+        if (!blank) {
+            lineCounts[best == Integer.MAX_VALUE ? this.groupCount : best]++;
+        }
+    }
+
+    public int groupCount() {
+        return this.groupCount;
+    }
+
+    private static List<List<int[]>> encode(List<List<String>> keywordGroups, boolean utf8) {
+        List<List<int[]>> encoded = new ArrayList<>();
+        for (List<String> group : keywordGroups) {
+            List<int[]> encodedGroup = new ArrayList<>();
+            for (String keyword : group) {
+                if (utf8) {
+                    byte[] bytes = keyword.getBytes(StandardCharsets.UTF_8);
+                    int[] symbols = new int[bytes.length];
+                    for (int i = 0; i < bytes.length; i++) {
+                        symbols[i] = bytes[i] & 0xFF;
+                    }
+                    encodedGroup.add(symbols);
+                } else {
+                    encodedGroup.add(keyword.chars().toArray());
+                }
+            }
+            encoded.add(encodedGroup);
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,104 @@
+package classifier;
+
+import models.ClassificationSummary;
+import models.EnquiryType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+    Classifies a line delimited UTF-8 enquiry file through memory mapped chunks.
+    The file is cut into chunks that end on a line break, every worker maps its own chunk and
+    matches keywords directly on the bytes - no String is ever built.
+    The bytes are not decoded, so malformed UTF-8 is not reported: such a line is still counted, matched on the
+    bytes it has. Files.lines, and with it EnquiryAPI.classifyFile, fails on it with a MalformedInputException.
+ */
+public class MappedFileClassifier {
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int BOUNDARY_SCAN_SIZE = 8 * 1024;
+
+    private final EnquiryClassifier classifier;
+    private final int chunkSize;
+
+    public MappedFileClassifier(EnquiryClassifier classifier) {
+        this(classifier, DEFAULT_CHUNK_SIZE);
+    }
+
+    public MappedFileClassifier(EnquiryClassifier classifier, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        this.classifier = classifier;
+        this.chunkSize = chunkSize;
+    }
+
+    public ClassificationSummary classify(Path file, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = split(channel);
+            int types = EnquiryType.values().length;
+            long[] totals = pool.submit(() -> chunks.parallelStream()
+                    .map(chunk -> classifyChunk(channel, chunk[0], chunk[1]))
+                    .reduce(new long[types], MappedFileClassifier::add)).join();
+            return new ClassificationSummary(totals);
+        }
+    }
+
+    private long[] classifyChunk(FileChannel channel, long start, long end) {
+        long[] counts = new long[EnquiryType.values().length];
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            this.classifier.countLines(buffer, 0, buffer.limit(), counts);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not map enquiries " + start + ".." + end, e);
+        }
+        return counts;
+    }
+
+    // [start, end) pairs, every end but the last one is just past a \n or \r.
+    private List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(size, start + this.chunkSize);
+            end = end == size ? size : nextLineStart(channel, end, size, scan);
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer scan) throws IOException {
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte code = scan.get(i);
+                if (code == '\n' || code == '\r') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static long[] add(long[] left, long[] right) {
+        long[] sum = new long[left.length];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = left[i] + right[i];
+        }
+        return sum;
+    }
+}
@@ -1,13 +1,25 @@
 package factory;
 
+import classifier.EnquiryClassifier;
 import handler.*;
 
 public class EnquiryHandlerFactory {
+    private static final EnquiryClassifier CLASSIFIER = EnquiryClassifier.load();
+
     private EnquiryHandlerFactory() {
         // Private constructor - As it's a factory.
     }
 
     public static EnquiryHandler getEnquiryHandler() {
+        return new LogHandler(new KeywordEnquiryHandler(CLASSIFIER, new UnknownEnquiryHandler()));
+    }
+
+    // One handler per team, each scanning the enquiry on its own.
+    public static EnquiryHandler getChainedEnquiryHandler() {
         return new LogHandler(new AcademicEnquiryHandler(new ProjectsEnquiryHandler(new SubscriptionEnquiryHandler(new UnknownEnquiryHandler()))));
     }
+
+    public static EnquiryClassifier getClassifier() {
+        return CLASSIFIER;
+    }
 }
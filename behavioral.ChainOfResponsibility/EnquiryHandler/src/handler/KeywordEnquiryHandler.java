@@ -0,0 +1,27 @@
+package handler;
+
+import classifier.EnquiryClassifier;
+import models.EnquiryType;
+
+// Does the work of the Academic, Projects and Subscription handlers with a single scan of the enquiry.
+public class KeywordEnquiryHandler implements EnquiryHandler {
+    private final EnquiryClassifier classifier;
+    private final EnquiryHandler nextHandler;
+
+    public KeywordEnquiryHandler(EnquiryClassifier classifier, EnquiryHandler nextHandler) {
+        this.classifier = classifier;
+        this.nextHandler = nextHandler;
+    }
+
+    @Override
+    public EnquiryType handle(String enquiry) {
+        if (enquiry == null || enquiry.isEmpty()) {
+            throw new IllegalArgumentException("Null Or Empty Enquiry.");
+        }
+        EnquiryType enquiryType = this.classifier.classify(enquiry);
+        if (enquiryType != EnquiryType.UNKNOWN) {
+            return enquiryType;
+        }
+        return this.nextHandler.handle(enquiry);
+    }
+}
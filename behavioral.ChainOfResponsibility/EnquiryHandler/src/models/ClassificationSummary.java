@@ -0,0 +1,38 @@
+package models;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class ClassificationSummary {
+    private final long[] counts;
+
+    // Indexed by EnquiryType ordinal.
+    public ClassificationSummary(long[] counts) {
+        this.counts = counts.clone();
+    }
+
+    public long getCount(EnquiryType enquiryType) {
+        return counts[enquiryType.ordinal()];
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public Map<EnquiryType, Long> asMap() {
+        Map<EnquiryType, Long> countsByType = new EnumMap<>(EnquiryType.class);
+        for (EnquiryType enquiryType : EnquiryType.values()) {
+            countsByType.put(enquiryType, counts[enquiryType.ordinal()]);
+        }
+        return countsByType;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+}
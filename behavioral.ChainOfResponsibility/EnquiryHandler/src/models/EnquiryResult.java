@@ -0,0 +1,24 @@
+package models;
+
+public class EnquiryResult {
+    private final String enquiry;
+    private final EnquiryType enquiryType;
+
+    public EnquiryResult(String enquiry, EnquiryType enquiryType) {
+        this.enquiry = enquiry;
+        this.enquiryType = enquiryType;
+    }
+
+    public String getEnquiry() {
+        return enquiry;
+    }
+
+    public EnquiryType getEnquiryType() {
+        return enquiryType;
+    }
+
+    @Override
+    public String toString() {
+        return enquiryType + "\t" + enquiry;
+    }
+}
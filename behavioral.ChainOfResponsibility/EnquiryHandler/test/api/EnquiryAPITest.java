@@ -0,0 +1,52 @@
+package api;
+
+import models.ClassificationSummary;
+import models.EnquiryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// classifyFile and classifyMappedFile agree on valid UTF-8 and, as documented, part ways on malformed input.
+class EnquiryAPITest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void bothFileClassifiersGiveTheSameCounts() throws IOException {
+        Path file = this.directory.resolve("enquiries.txt");
+        Files.writeString(file, "NLP für alle\r\nproject\rExpiry 日本\n\n \t\r\nhello\r\n", StandardCharsets.UTF_8);
+        EnquiryAPI api = new EnquiryAPI(new ForkJoinPool(2));
+        ClassificationSummary lines = api.classifyFile(file, true, result -> {
+        });
+        ClassificationSummary mapped = api.classifyMappedFile(file);
+        assertEquals(lines.asMap(), mapped.asMap());
+        assertEquals(4, lines.getTotal());
+        assertEquals(1, mapped.getCount(EnquiryType.UNKNOWN));
+    }
+
+    @Test
+    void onlyTheMappedClassifierAcceptsMalformedUtf8() throws IOException {
+        Path file = this.directory.resolve("malformed.txt");
+        // 0xC3 starts a two byte character that never gets its second byte.
+        Files.write(file, new byte[]{'N', 'L', 'P', (byte) 0xC3, '\n', 'x', '\n'});
+        EnquiryAPI api = new EnquiryAPI(new ForkJoinPool(2));
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class, () -> api.classifyFile(file, true,
+                result -> {
+                }));
+        assertInstanceOf(MalformedInputException.class, failure.getCause());
+        ClassificationSummary mapped = api.classifyMappedFile(file);
+        assertEquals(1, mapped.getCount(EnquiryType.ACADEMIC));
+        assertEquals(1, mapped.getCount(EnquiryType.UNKNOWN));
+    }
+}
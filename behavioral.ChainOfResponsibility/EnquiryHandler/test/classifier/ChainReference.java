@@ -0,0 +1,46 @@
+package classifier;
+
+import handler.AcademicEnquiryHandler;
+import handler.EnquiryHandler;
+import handler.ProjectsEnquiryHandler;
+import handler.SubscriptionEnquiryHandler;
+import handler.UnknownEnquiryHandler;
+import models.EnquiryType;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+// The old contains() chain the classifier replaced, and enquiries built from pieces of its keywords.
+final class ChainReference {
+    private static final String[] PIECES = {
+            "NLP", "Data Science", "Low Level Design", "project", "submission", "timeline",
+            "Subscription", "Validity", "Expiry", "NL", "Data Scien", "Low Level", "projec", "submis", "Subscript",
+            "P", "Data ", "Design", " ", "\t", "a", "é", "日本語", "😀", "ü", "Ex", "piry", "time", "line"
+    };
+
+    private static final EnquiryHandler CHAIN = new AcademicEnquiryHandler(
+            new ProjectsEnquiryHandler(new SubscriptionEnquiryHandler(new UnknownEnquiryHandler())));
+
+    private ChainReference() {
+    }
+
+    // The handlers print every step, which is not what these tests look at.
+    static EnquiryType classify(String enquiry) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return CHAIN.handle(enquiry);
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    static String randomEnquiry(Random random) {
+        StringBuilder enquiry = new StringBuilder();
+        for (int i = 1 + random.nextInt(6); i > 0; i--) {
+            enquiry.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return enquiry.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package classifier;
+
+import models.EnquiryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The default keywords have to give exactly the old chain's answer, Academic -> Projects -> Subscription -> Unknown.
+class EnquiryClassifierTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void classifiesLikeTheContainsChain() {
+        EnquiryClassifier classifier = EnquiryClassifier.withDefaultKeywords();
+        Random random = new Random(3);
+        for (int round = 0; round < 20_000; round++) {
+            String enquiry = ChainReference.randomEnquiry(random);
+            assertEquals(ChainReference.classify(enquiry), classifier.classify(enquiry), enquiry);
+        }
+    }
+
+    @Test
+    void countsLinesLikeTheContainsChain() {
+        EnquiryClassifier classifier = EnquiryClassifier.withDefaultKeywords();
+        Random random = new Random(4);
+        long[] expected = new long[EnquiryType.values().length];
+        StringBuilder text = new StringBuilder();
+        for (int line = 0; line < 5_000; line++) {
+            String enquiry = ChainReference.randomEnquiry(random);
+            if (!EnquiryClassifier.isBlankLine(enquiry)) {
+                expected[ChainReference.classify(enquiry).ordinal()]++;
+            }
+            text.append(enquiry).append('\n');
+        }
+        long[] counts = new long[expected.length];
+        ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+        classifier.countLines(buffer, 0, buffer.limit(), counts);
+        for (EnquiryType type : EnquiryType.values()) {
+            assertEquals(expected[type.ordinal()], counts[type.ordinal()], type.name());
+        }
+    }
+
+    @Test
+    void propertiesSetTheKeywordsAndThePriority() throws IOException {
+        Path keywords = this.directory.resolve("keywords.properties");
+        Files.writeString(keywords, "priority=SUBSCRIPTION,ACADEMIC\nACADEMIC=NLP, Thesis\nSUBSCRIPTION=Renewal,NLP\n");
+        EnquiryClassifier classifier = EnquiryClassifier.fromProperties(keywords);
+        assertEquals(EnquiryType.SUBSCRIPTION, classifier.classify("NLP course"));
+        assertEquals(EnquiryType.ACADEMIC, classifier.classify("my Thesis"));
+        // Types left out of the file have no keywords at all.
+        assertEquals(EnquiryType.UNKNOWN, classifier.classify("project timeline"));
+    }
+}
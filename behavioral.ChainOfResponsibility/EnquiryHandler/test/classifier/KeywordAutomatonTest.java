@@ -0,0 +1,80 @@
+package classifier;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// match() and countLines() against a plain contains() over the groups in priority order.
+class KeywordAutomatonTest {
+    private static final List<List<String>> GROUPS = List.of(
+            List.of("she", "hers"), List.of("he", "his"), List.of("é", "s日"), List.of("", "x"));
+
+    @Test
+    void matchesTheFirstGroupWithAKeywordInTheText() {
+        KeywordAutomaton chars = new KeywordAutomaton(GROUPS);
+        KeywordAutomaton bytes = KeywordAutomaton.forUtf8Bytes(GROUPS);
+        Random random = new Random(9);
+        String[] pieces = {"s", "h", "e", "r", "i", "é", "日", "x", "😀", " "};
+        for (int round = 0; round < 20_000; round++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                text.append(pieces[random.nextInt(pieces.length)]);
+            }
+            int expected = containsMatch(text.toString());
+            assertEquals(expected, chars.match(text), text::toString);
+            assertEquals(expected, byteMatch(bytes, text.toString()), text::toString);
+        }
+    }
+
+    @Test
+    void overlappingKeywordsAreFoundThroughFailureLinks() {
+        KeywordAutomaton automaton = new KeywordAutomaton(GROUPS);
+        // "hers" only completes after the walk has followed "she" -> "he".
+        assertEquals(0, automaton.match("ushers"));
+        assertEquals(1, automaton.match("ahis"));
+        assertEquals(2, automaton.match("sé"));
+        assertEquals(KeywordAutomaton.NO_MATCH, automaton.match("sh e"));
+        assertEquals(KeywordAutomaton.NO_MATCH, automaton.match(""));
+    }
+
+    @Test
+    void countLinesSplitsOnEveryLineBreakAndSkipsBlankLines() {
+        KeywordAutomaton automaton = KeywordAutomaton.forUtf8Bytes(GROUPS);
+        String text = "she\r\nhe\rhis\n\n \t\r\n\ré\nsh\re\nzz";
+        long[] counts = new long[automaton.groupCount() + 1];
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        automaton.countLines(buffer, 0, buffer.limit(), counts);
+        // she | he | his | é | sh | e | zz, the \r splits "sh\re" like readLine does.
+        assertArrayEquals(new long[]{1, 2, 1, 0, 3}, counts);
+    }
+
+    private static int containsMatch(String text) {
+        for (int group = 0; group < GROUPS.size(); group++) {
+            for (String keyword : GROUPS.get(group)) {
+                if (!keyword.isEmpty() && text.contains(keyword)) {
+                    return group;
+                }
+            }
+        }
+        return KeywordAutomaton.NO_MATCH;
+    }
+
+    private static int byteMatch(KeywordAutomaton automaton, String text) {
+        long[] counts = new long[automaton.groupCount() + 1];
+        // A '#' is in no keyword, it only keeps empty and blank texts from being skipped as blank lines.
+        ByteBuffer buffer = ByteBuffer.wrap(("#" + text).getBytes(StandardCharsets.UTF_8));
+        automaton.countLines(buffer, 0, buffer.limit(), counts);
+        for (int group = 0; group < counts.length; group++) {
+            if (counts[group] == 1) {
+                return group == automaton.groupCount() ? KeywordAutomaton.NO_MATCH : group;
+            }
+        }
+        throw new AssertionError("Line was not counted: " + text);
+    }
+}
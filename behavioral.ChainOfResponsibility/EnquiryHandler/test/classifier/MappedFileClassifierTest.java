@@ -0,0 +1,72 @@
+package classifier;
+
+import models.ClassificationSummary;
+import models.EnquiryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+    Small chunk sizes put the nominal chunk ends inside multi byte characters, inside keywords and between \r and \n;
+    the counts must not depend on where the file was cut.
+ */
+class MappedFileClassifierTest {
+    private static final String[] LINE_ENDS = {"\n", "\r", "\r\n"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void countsDoNotDependOnTheChunkSize() throws IOException {
+        Random random = new Random(5);
+        StringBuilder text = new StringBuilder();
+        for (int line = 0; line < 400; line++) {
+            text.append(random.nextInt(8) == 0 ? " \t" : ChainReference.randomEnquiry(random));
+            text.append(LINE_ENDS[random.nextInt(LINE_ENDS.length)]);
+        }
+        text.append("no line break at the end, Expiry");
+        Path file = this.directory.resolve("enquiries.txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        long[] expected = chainCounts(text.toString());
+
+        EnquiryClassifier classifier = EnquiryClassifier.withDefaultKeywords();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int chunkSize = 1; chunkSize <= 80; chunkSize++) {
+                assertCounts(expected, new MappedFileClassifier(classifier, chunkSize).classify(file, pool));
+            }
+            assertCounts(expected, new MappedFileClassifier(classifier).classify(file, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // What classifyFile sees: readLine's lines, blank ones dropped, each through the old chain.
+    private static long[] chainCounts(String text) throws IOException {
+        long[] counts = new long[EnquiryType.values().length];
+        try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!EnquiryClassifier.isBlankLine(line)) {
+                    counts[ChainReference.classify(line).ordinal()]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static void assertCounts(long[] expected, ClassificationSummary summary) {
+        for (EnquiryType type : EnquiryType.values()) {
+            assertEquals(expected[type.ordinal()], summary.getCount(type), type.name());
+        }
+    }
+}
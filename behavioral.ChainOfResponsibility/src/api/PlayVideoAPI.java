@@ -1,16 +1,78 @@
 package api;
 
 import factory.RequestHandlerFactory;
+import handlers.AsyncRequestHandlerAdapter;
+import handlers.RequestHandler;
 import models.Request;
 import models.Response;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class PlayVideoAPI {
+    private final Executor executor;
+    // Built once per chain, replaced only when the factory registry swaps the chain.
+    private volatile AsyncRequestHandlerAdapter asyncHandlers;
+
+    // The managers block on lookups, so by default the chain runs on its own bounded pool, never the common pool.
+    public PlayVideoAPI() {
+        this(HandlerExecutorHolder.EXECUTOR);
+    }
+
+    public PlayVideoAPI(Executor executor) {
+        this.executor = executor;
+    }
+
     //    Basic Approach.
     public Response playVideo(Request request) {
         handle(request);
         return null; // For now.
     }
 
+    // Non-blocking variant. A handler rejecting the request completes the stage exceptionally.
+    public CompletionStage<Response> playVideoAsync(Request request) {
+        return asyncHandlers()
+                .handle(request)
+                .thenApply(ignored -> null); // For now.
+    }
+
+    private AsyncRequestHandlerAdapter asyncHandlers() {
+        RequestHandler handlers = RequestHandlerFactory.getHandlers("playVideoAPI");
+        AsyncRequestHandlerAdapter adapter = this.asyncHandlers;
+        // Two threads seeing a new chain at once both build an adapter, either one is fine to keep.
+        if (adapter == null || adapter.getRequestHandler() != handlers) {
+            adapter = new AsyncRequestHandlerAdapter(handlers, this.executor);
+            this.asyncHandlers = adapter;
+        }
+        return adapter;
+    }
+
+    /*
+        Shared by every PlayVideoAPI built without an executor and created on first use. Threads are daemons and time out
+        when idle. The queue is bounded, so once it is full playVideoAsync fails fast with a RejectedExecutionException.
+     */
+    private static final class HandlerExecutorHolder {
+        private static final int THREADS = Math.max(8, 4 * Runtime.getRuntime().availableProcessors());
+        private static final int QUEUE_CAPACITY = 10_000;
+        private static final Executor EXECUTOR = newExecutor();
+
+        private static Executor newExecutor() {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                Thread thread = new Thread(runnable, "play-video-handler-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     private void handle(Request request) {
         /*
             // Very simple example of chain of responsibility pattern
@@ -0,0 +1,5 @@
+package audit;
+
+public enum AuditLevel {
+    DEBUG, INFO, WARN, OFF
+}
@@ -0,0 +1,215 @@
+package audit;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+    Audit events from request threads go into a pre-allocated ring buffer (no locks, no allocation per event),
+    a single background thread drains it and writes events to the output in batches.
+    When the buffer is full events are dropped and counted rather than making the request wait.
+    The flusher parks until an event arrives, and it is not started at all while the level is OFF.
+ */
+public class AuditSink implements AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH = 512;
+
+    private static final AuditSink DEFAULT = createDefault();
+
+    private final int mask;
+    private final long[] timestamps;
+    private final AuditLevel[] levels;
+    private final String[] sources;
+    private final String[] messages;
+    // Holds sequence + 1 once the slot for that sequence is fully written.
+    private final AtomicLongArray published;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final LongAdder dropped = new LongAdder();
+    private final PrintStream out;
+    private final StringBuilder batch = new StringBuilder(MAX_BATCH * 64);
+    private Thread flusher;
+    // Set by the flusher before it parks, the recorder that sees it wakes the flusher up.
+    private volatile boolean sleeping;
+    private volatile AuditLevel level;
+    private volatile boolean running = true;
+
+    public AuditSink(PrintStream out, AuditLevel level, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two.");
+        }
+        this.out = out;
+        this.level = level;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.levels = new AuditLevel[capacity];
+        this.sources = new String[capacity];
+        this.messages = new String[capacity];
+        this.published = new AtomicLongArray(capacity);
+        if (level != AuditLevel.OFF) {
+            startFlusher();
+        }
+    }
+
+    // Level comes from -Daudit.level=DEBUG|INFO|WARN|OFF, INFO when not set.
+    public static AuditSink getDefault() {
+        return DEFAULT;
+    }
+
+    public boolean isEnabled(AuditLevel eventLevel) {
+        return eventLevel != AuditLevel.OFF && eventLevel.compareTo(this.level) >= 0;
+    }
+
+    public void setLevel(AuditLevel level) {
+        if (level != AuditLevel.OFF) {
+            startFlusher();
+        }
+        this.level = level;
+    }
+
+    public void debug(String source, String message) {
+        record(AuditLevel.DEBUG, source, message);
+    }
+
+    public void info(String source, String message) {
+        record(AuditLevel.INFO, source, message);
+    }
+
+    public void warn(String source, String message) {
+        record(AuditLevel.WARN, source, message);
+    }
+
+    public void record(AuditLevel eventLevel, String source, String message) {
+        if (!isEnabled(eventLevel)) {
+            return;
+        }
+        long sequence;
+        do {
+            sequence = this.tail.get();
+            if (sequence - this.head > this.mask) {
+                this.dropped.increment();
+                return;
+            }
+        } while (!this.tail.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & this.mask;
+        this.timestamps[slot] = System.currentTimeMillis();
+        this.levels[slot] = eventLevel;
+        this.sources[slot] = source;
+        this.messages[slot] = message;
+        // A full store, so it cannot pass the read of sleeping below and leave the flusher parked with work to do.
+        this.published.set(slot, sequence + 1);
+        if (this.sleeping) {
+            this.sleeping = false;
+            LockSupport.unpark(this.flusher);
+        }
+    }
+
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    // Stops the flusher after everything recorded so far has been written.
+    @Override
+    public void close() {
+        Thread flusher;
+        synchronized (this) {
+            this.running = false;
+            flusher = this.flusher;
+        }
+        if (flusher == null) {
+            return;
+        }
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Once, on the first level other than OFF. Never after close.
+    private synchronized void startFlusher() {
+        if (this.flusher != null || !this.running) {
+            return;
+        }
+        this.flusher = new Thread(this::flushLoop, "audit-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    private void flushLoop() {
+        while (this.running) {
+            if (drain() > 0) {
+                continue;
+            }
+            this.sleeping = true;
+            // Checked again after announcing the sleep, an event published in between would otherwise wait.
+            if (this.running && !hasPublished()) {
+                LockSupport.park(this);
+            }
+            this.sleeping = false;
+        }
+        while (drain() > 0) {
+            // Write out whatever was recorded before close.
+        }
+    }
+
+    private boolean hasPublished() {
+        long next = this.head;
+        return this.published.get((int) next & this.mask) == next + 1;
+    }
+
+    private int drain() {
+        long next = this.head;
+        int count = 0;
+        while (count < MAX_BATCH && this.published.get((int) next & this.mask) == next + 1) {
+            int slot = (int) next & this.mask;
+            this.batch.append(this.timestamps[slot]).append(' ')
+                    .append(this.levels[slot]).append(" [")
+                    .append(this.sources[slot]).append("] ")
+                    .append(this.messages[slot]).append(System.lineSeparator());
+            this.sources[slot] = null;
+            this.messages[slot] = null;
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            this.head = next;
+            this.out.print(this.batch);
+            this.out.flush();
+            this.batch.setLength(0);
+        }
+        return count;
+    }
+
+    private static AuditSink createDefault() {
+        String property = System.getProperty("audit.level");
+        AuditLevel level = parseLevel(property);
+        AuditSink sink = new AuditSink(System.out, level != null ? level : AuditLevel.INFO, DEFAULT_CAPACITY);
+        Runtime.getRuntime().addShutdownHook(new Thread(sink::close, "audit-shutdown"));
+        if (property != null && level == null) {
+            // Runs once, from the static initializer. Throwing here would leave every handler unusable.
+            sink.warn("AuditSink", "Unknown audit.level '" + property + "', expected one of "
+                    + Arrays.toString(AuditLevel.values()) + ". Using INFO.");
+        }
+        return sink;
+    }
+
+    // Case and surrounding blanks are ignored, null when the value names no level.
+    private static AuditLevel parseLevel(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return AuditLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,18 +1,89 @@
 package factory;
 
 import handlers.*;
+import manager.BatchingUserManager;
+import manager.CachingTokenManager;
 import manager.TokenManager;
 import manager.UserManager;
+import metrics.HandlerMetricsRegistry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class RequestHandlerFactory {
+    private static final String PLAY_VIDEO_API = "playVideoAPI";
+    private static final int TOKEN_CACHE_SIZE = 10_000;
+    private static final Duration TOKEN_TTL = Duration.ofMinutes(5);
+    private static final Duration INVALID_TOKEN_TTL = Duration.ofSeconds(30);
+
+    private static final HandlerMetricsRegistry METRICS = new HandlerMetricsRegistry();
+    private static final TokenManager TOKEN_MANAGER =
+            new CachingTokenManager(new TokenManager(), TOKEN_CACHE_SIZE, TOKEN_TTL, INVALID_TOKEN_TTL);
+    // Handlers hold nothing but final references, so a chain is built once and shared by every request.
+    private static final RequestHandler DEFAULT_HANDLERS = buildHandlers(PLAY_VIDEO_API, TOKEN_MANAGER,
+            new UserManager(), METRICS);
+    private static final ConcurrentMap<String, RequestHandler> HANDLERS_BY_API = new ConcurrentHashMap<>();
+
+    static {
+        HANDLERS_BY_API.put(PLAY_VIDEO_API, DEFAULT_HANDLERS);
+    }
+
     private RequestHandlerFactory() {
         // Since we don't want a factory to be instantiated.
     }
 
     public static RequestHandler getHandlers(String apiName) {
-        RequestHandler authorizationHandler = new AuthorizationHandler(new IdleHandler(), new UserManager());
-        RequestHandler authenticationHandler = new AuthenticationHandler(authorizationHandler, new TokenManager());
+        RequestHandler handlers = HANDLERS_BY_API.get(apiName);
+        return handlers != null ? handlers : DEFAULT_HANDLERS;
+    }
+
+    /*
+        Registers (or atomically replaces) the chain used for an API.
+        Requests already inside the old chain finish on it, new lookups see the new one.
+     */
+    public static void registerHandlers(String apiName, RequestHandler handlers) {
+        HANDLERS_BY_API.put(Objects.requireNonNull(apiName), Objects.requireNonNull(handlers));
+    }
+
+    /*
+        Opt-in: the chain for apiName authorizes through a BatchingUserManager. Only worth it for an API whose
+        requests come in bursts, a request that arrives alone waits up to window for others to share its lookup.
+     */
+    public static void registerBatchingHandlers(String apiName, int maxBatchSize, Duration window) {
+        registerHandlers(apiName, buildHandlers(apiName, TOKEN_MANAGER,
+                new BatchingUserManager(new UserManager(), maxBatchSize, window), METRICS));
+    }
+
+    public static void unregisterHandlers(String apiName) {
+        HANDLERS_BY_API.remove(apiName);
+    }
+
+    public static HandlerMetricsRegistry getMetrics() {
+        return METRICS;
+    }
+
+    // Validation -> Authentication -> Authorization -> IdleHandler.
+    public static RequestHandler buildHandlers(TokenManager tokenManager, UserManager userManager) {
+        RequestHandler authorizationHandler = new AuthorizationHandler(new IdleHandler(), userManager);
+        RequestHandler authenticationHandler = new AuthenticationHandler(authorizationHandler, tokenManager);
         RequestHandler validationHandler = new ValidationHandler(authenticationHandler);
         return validationHandler;
     }
+
+    // Same chain with every link wrapped so its counts and latency are recorded under apiName.
+    public static RequestHandler buildHandlers(String apiName, TokenManager tokenManager, UserManager userManager,
+                                               HandlerMetricsRegistry registry) {
+        RequestHandler idleHandler = new InstrumentedRequestHandler(new IdleHandler(),
+                registry.forHandler(apiName, "IdleHandler"));
+        RequestHandler authorizationHandler = new InstrumentedRequestHandler(
+                new AuthorizationHandler(idleHandler, userManager),
+                registry.forHandler(apiName, "AuthorizationHandler"));
+        RequestHandler authenticationHandler = new InstrumentedRequestHandler(
+                new AuthenticationHandler(authorizationHandler, tokenManager),
+                registry.forHandler(apiName, "AuthenticationHandler"));
+        return new InstrumentedRequestHandler(new ValidationHandler(authenticationHandler),
+                registry.forHandler(apiName, "ValidationHandler"));
+    }
 }
@@ -0,0 +1,11 @@
+package handlers;
+
+import models.Request;
+
+import java.util.concurrent.CompletionStage;
+
+public interface AsyncRequestHandler {
+
+    // Completes normally when the request made it through the chain, exceptionally when a handler short-circuited it.
+    public CompletionStage<Void> handle(Request request);
+}
@@ -0,0 +1,37 @@
+package handlers;
+
+import models.Request;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/*
+    Runs an existing (blocking) RequestHandler chain on the given executor, so the caller thread never waits on
+    slow managers. Whatever a handler throws to stop the chain completes the returned stage exceptionally.
+ */
+public class AsyncRequestHandlerAdapter implements AsyncRequestHandler {
+    private final RequestHandler requestHandler;
+    private final Executor executor;
+
+    public AsyncRequestHandlerAdapter(RequestHandler requestHandler, Executor executor) {
+        this.requestHandler = Objects.requireNonNull(requestHandler);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Void> handle(Request request) {
+        try {
+            return CompletableFuture.runAsync(() -> this.requestHandler.handle(request), this.executor);
+        } catch (RejectedExecutionException e) {
+            // A saturated or shut down executor fails this request like any handler would, instead of throwing at the caller.
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public RequestHandler getRequestHandler() {
+        return this.requestHandler;
+    }
+}
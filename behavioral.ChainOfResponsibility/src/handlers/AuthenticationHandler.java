@@ -1,9 +1,11 @@
 package handlers;
 
+import audit.AuditSink;
 import manager.TokenManager;
 import models.Request;
 
 public class AuthenticationHandler implements RequestHandler {
+    private static final AuditSink AUDIT = AuditSink.getDefault();
 
     private final RequestHandler nextRequestHandler;
     private final TokenManager tokenManager;
@@ -17,9 +19,10 @@ public class AuthenticationHandler implements RequestHandler {
     public void handle(Request request) {
         String email = this.tokenManager.getEmailFromToken(String.valueOf(request.getRequestHeaders()));
         if (!isValidEmail(email)) {
-            throw new RuntimeException("Authentication Failed.");
+            AUDIT.warn("AuthenticationHandler", "Authentication Failed.");
+            throw new RequestRejectedException("Authentication Failed.");
         }
-        System.out.println("Authentication Passed.");
+        AUDIT.info("AuthenticationHandler", "Authentication Passed.");
         this.nextRequestHandler.handle(request);
     }
 
@@ -1,9 +1,12 @@
 package handlers;
 
+import audit.AuditSink;
 import manager.UserManager;
 import models.Request;
 
 public class AuthorizationHandler implements RequestHandler {
+    private static final AuditSink AUDIT = AuditSink.getDefault();
+
     private final RequestHandler nextRequestHandler;
     private final UserManager userManager;
 
@@ -15,9 +18,10 @@ public class AuthorizationHandler implements RequestHandler {
     @Override
     public void handle(Request request) {
         if (!this.userManager.isSubscribed(request.getRequestHeaders())) {
-            throw new RuntimeException("Access Denied !!! . User is not subscribed.");
+            AUDIT.warn("AuthorizationHandler", "User is not subscribed.");
+            throw new RequestRejectedException("Access Denied !!! . User is not subscribed.");
         }
-        System.out.println("Authorization Passed.");
+        AUDIT.info("AuthorizationHandler", "Authorization Passed.");
         // so lets say this handler is the tail of the chain.(Linked List.)
         this.nextRequestHandler.handle(request);
     }
@@ -1,11 +1,13 @@
 package handlers;
 
-
+import audit.AuditSink;
 import models.Request;
 
 public class IdleHandler implements RequestHandler {
+    private static final AuditSink AUDIT = AuditSink.getDefault();
+
     @Override
     public void handle(Request request) {
-        System.out.print("All Done . Handlers End.");
+        AUDIT.info("IdleHandler", "All Done . Handlers End.");
     }
 }
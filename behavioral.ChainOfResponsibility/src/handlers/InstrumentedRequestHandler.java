@@ -0,0 +1,69 @@
+package handlers;
+
+import metrics.HandlerMetrics;
+import models.Request;
+
+import java.util.function.Predicate;
+
+/*
+    Wraps one link of the chain and records its outcome and latency.
+    Because each link calls the next one, the time spent in instrumented links further down is subtracted,
+    and a failure thrown by a later link counts as a pass for this one.
+ */
+public class InstrumentedRequestHandler implements RequestHandler {
+    private static final ThreadLocal<CallState> CALL_STATE = ThreadLocal.withInitial(CallState::new);
+
+    private final RequestHandler requestHandler;
+    private final HandlerMetrics metrics;
+    private final Predicate<? super Throwable> isRejection;
+
+    public InstrumentedRequestHandler(RequestHandler requestHandler, HandlerMetrics metrics) {
+        this(requestHandler, metrics, RequestRejectedException.class::isInstance);
+    }
+
+    // isRejection tells a deliberate rejection by the wrapped link from a failure, by default RequestRejectedException.
+    public InstrumentedRequestHandler(RequestHandler requestHandler, HandlerMetrics metrics,
+                                      Predicate<? super Throwable> isRejection) {
+        this.requestHandler = requestHandler;
+        this.metrics = metrics;
+        this.isRejection = isRejection;
+    }
+
+    @Override
+    public void handle(Request request) {
+        CallState state = CALL_STATE.get();
+        long outerChildNanos = state.childNanos;
+        state.childNanos = 0;
+        state.depth++;
+        Throwable thrown = null;
+        long start = System.nanoTime();
+        try {
+            this.requestHandler.handle(request);
+        } catch (Throwable t) {
+            thrown = t;
+            throw t;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long ownNanos = elapsed - state.childNanos;
+            state.childNanos = outerChildNanos + elapsed;
+            if (thrown == null || thrown == state.recorded) {
+                this.metrics.recordPassed(ownNanos);
+            } else if (this.isRejection.test(thrown)) {
+                this.metrics.recordRejected(ownNanos);
+                state.recorded = thrown;
+            } else {
+                this.metrics.recordFailed(ownNanos);
+                state.recorded = thrown;
+            }
+            if (--state.depth == 0) {
+                state.recorded = null;
+            }
+        }
+    }
+
+    private static final class CallState {
+        private long childNanos;
+        private int depth;
+        private Throwable recorded;
+    }
+}
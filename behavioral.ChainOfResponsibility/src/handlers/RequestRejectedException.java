@@ -0,0 +1,13 @@
+package handlers;
+
+/*
+    Thrown by a handler that deliberately turns a request away (bad input, failed authentication, no subscription).
+    InstrumentedRequestHandler counts it as a rejection, anything else thrown is a failure.
+ */
+public class RequestRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+}
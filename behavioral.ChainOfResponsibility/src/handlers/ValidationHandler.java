@@ -1,8 +1,11 @@
 package handlers;
 
+import audit.AuditSink;
 import models.Request;
 
 public class ValidationHandler implements RequestHandler {
+    private static final AuditSink AUDIT = AuditSink.getDefault();
+
     private final RequestHandler nextRequestHandler;
 
     public ValidationHandler(RequestHandler requestHandler) {
@@ -13,10 +16,11 @@ public class ValidationHandler implements RequestHandler {
     public void handle(Request request) {
         // Sanity Checks.
         if (request.getRequestHeaders() == null || request.getRequestHeaders().isEmpty()) {
-            throw new IllegalArgumentException("Empty Header");
+            AUDIT.warn("ValidationHandler", "Empty Header");
+            throw new RequestRejectedException("Empty Header");
         }
         // Add Other Sanity Checks.
-        System.out.println("Validation Passed.");
+        AUDIT.info("ValidationHandler", "Validation Passed.");
         this.nextRequestHandler.handle(request);
     }
 }
@@ -0,0 +1,147 @@
+package manager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+    Collects concurrent isSubscribed lookups and resolves them with a single UserManager.areSubscribed call,
+    either once maxBatchSize distinct tokens are waiting or once the window since the first of them has passed.
+    A lookup that arrives alone always waits the full window, so this is opt-in for bursty APIs
+    (RequestHandlerFactory.registerBatchingHandlers), not part of the default chain.
+ */
+public class BatchingUserManager extends UserManager {
+    public static final Duration DEFAULT_LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final UserManager delegate;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final long lookupTimeoutNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<Boolean>> pending = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchingUserManager(UserManager delegate, int maxBatchSize, Duration window) {
+        this(delegate, maxBatchSize, window, DEFAULT_LOOKUP_TIMEOUT);
+    }
+
+    // lookupTimeout bounds how long the blocking isSubscribed waits for its batch to be resolved.
+    public BatchingUserManager(UserManager delegate, int maxBatchSize, Duration window, Duration lookupTimeout) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (lookupTimeout.isNegative() || lookupTimeout.isZero()) {
+            throw new IllegalArgumentException("Lookup timeout must be positive.");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.lookupTimeoutNanos = lookupTimeout.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "subscription-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public boolean isSubscribed(String token) {
+        try {
+            return isSubscribedAsync(token).get(this.lookupTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Subscription lookup timed out.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a subscription lookup.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Subscription lookup failed.", cause);
+        }
+    }
+
+    @Override
+    public Map<String, Boolean> areSubscribed(Collection<String> tokens) {
+        return this.delegate.areSubscribed(tokens);
+    }
+
+    public CompletableFuture<Boolean> isSubscribedAsync(String token) {
+        CompletableFuture<Boolean> subscription;
+        Map<String, CompletableFuture<Boolean>> batch = null;
+        synchronized (this.lock) {
+            subscription = this.pending.computeIfAbsent(token, key -> new CompletableFuture<>());
+            if (this.pending.size() >= this.maxBatchSize) {
+                batch = drain();
+            } else if (this.scheduledFlush == null) {
+                try {
+                    this.scheduledFlush = this.scheduler.schedule(this::flush, this.windowNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // Shut down, nothing will flush later, so the batch is resolved on this thread.
+                    batch = drain();
+                }
+            }
+        }
+        if (batch != null) {
+            resolve(batch);
+        }
+        return subscription;
+    }
+
+    public void shutdown() {
+        flush();
+        this.scheduler.shutdown();
+    }
+
+    private void flush() {
+        Map<String, CompletableFuture<Boolean>> batch;
+        synchronized (this.lock) {
+            batch = drain();
+        }
+        resolve(batch);
+    }
+
+    // Caller holds the lock.
+    private Map<String, CompletableFuture<Boolean>> drain() {
+        Map<String, CompletableFuture<Boolean>> batch = this.pending;
+        this.pending = new HashMap<>();
+        if (this.scheduledFlush != null) {
+            this.scheduledFlush.cancel(false);
+            this.scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void resolve(Map<String, CompletableFuture<Boolean>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Boolean> subscriptions = this.delegate.areSubscribed(batch.keySet());
+            for (Map.Entry<String, CompletableFuture<Boolean>> entry : batch.entrySet()) {
+                entry.getValue().complete(Boolean.TRUE.equals(subscriptions.get(entry.getKey())));
+            }
+        } catch (Throwable e) {
+            // Errors too, otherwise every waiter of the batch would hang until its timeout.
+            for (CompletableFuture<Boolean> subscription : batch.values()) {
+                subscription.completeExceptionally(e);
+            }
+        }
+    }
+}
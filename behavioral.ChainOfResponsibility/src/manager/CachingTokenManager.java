@@ -0,0 +1,181 @@
+package manager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    Decorates a TokenManager with a size bounded cache.
+    Tokens that resolve to an email live for ttl, tokens the delegate has no email for (null) are cached as misses for
+    negativeTtl, so a flood of bad tokens does not hit the delegate either. What counts as a valid email is left to
+    AuthenticationHandler, an empty string is cached like any other email.
+    A hit is a map get, an expiry check and a read of the entry's reference bit, no lock. Over the size bound entries
+    are evicted with CLOCK (second chance) in insertion order, an approximate LRU, by one thread at a time.
+ */
+public class CachingTokenManager extends TokenManager {
+    private final TokenManager delegate;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Map<String, CachedEmail> cache = new ConcurrentHashMap<>();
+    // The CLOCK ring, its head is the hand. Entries removed by expiry or invalidate are skipped when reached.
+    private final Queue<CachedEmail> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger removedInClock = new AtomicInteger();
+    private final AtomicBoolean maintaining = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingTokenManager(TokenManager delegate, int maximumSize, Duration ttl, Duration negativeTtl) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    @Override
+    public String getEmailFromToken(String token) {
+        CachedEmail cached = this.cache.get(token);
+        if (cached != null) {
+            if (System.nanoTime() - cached.expiresAt < 0) {
+                cached.touch();
+                hits.increment();
+                return cached.email;
+            }
+            if (remove(cached)) {
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        // Resolved without holding anything, two racing misses for the same token both go to the delegate.
+        String email = this.delegate.getEmailFromToken(token);
+        long ttl = email == null ? this.negativeTtlNanos : this.ttlNanos;
+        if (ttl > 0) {
+            CachedEmail entry = new CachedEmail(token, email, System.nanoTime() + ttl);
+            CachedEmail replaced = this.cache.put(token, entry);
+            if (replaced != null) {
+                replaced.removed = true;
+                this.removedInClock.incrementAndGet();
+            }
+            this.clock.add(entry);
+            maintain();
+        }
+        return email;
+    }
+
+    public void invalidate(String token) {
+        CachedEmail cached = this.cache.get(token);
+        if (cached != null) {
+            remove(cached);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // Entries dropped because they outlived their ttl.
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    // Entries dropped to stay within the maximum size.
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return this.cache.size();
+    }
+
+    // Removes exactly this entry, false when it was already gone or replaced.
+    private boolean remove(CachedEmail cached) {
+        if (!this.cache.remove(cached.token, cached)) {
+            return false;
+        }
+        cached.removed = true;
+        if (this.removedInClock.incrementAndGet() > this.maximumSize) {
+            maintain();
+        }
+        return true;
+    }
+
+    // Only the thread that wins the flag works, and it checks again after letting go so no overflow is left behind.
+    private void maintain() {
+        while (needsMaintenance() && this.maintaining.compareAndSet(false, true)) {
+            try {
+                if (this.removedInClock.get() > this.maximumSize) {
+                    this.removedInClock.set(0);
+                    this.clock.removeIf(cached -> cached.removed);
+                }
+                evictOverflow();
+            } finally {
+                this.maintaining.set(false);
+            }
+        }
+    }
+
+    private boolean needsMaintenance() {
+        return this.cache.size() > this.maximumSize || this.removedInClock.get() > this.maximumSize;
+    }
+
+    private void evictOverflow() {
+        long now = System.nanoTime();
+        while (this.cache.size() > this.maximumSize) {
+            CachedEmail cached = this.clock.poll();
+            if (cached == null) {
+                return;
+            }
+            if (cached.removed) {
+                continue;
+            }
+            boolean expired = now - cached.expiresAt >= 0;
+            if (cached.referenced && !expired) {
+                cached.referenced = false;
+                this.clock.add(cached);
+                continue;
+            }
+            if (this.cache.remove(cached.token, cached)) {
+                cached.removed = true;
+                (expired ? expirations : evictions).increment();
+            }
+        }
+    }
+
+    private static final class CachedEmail {
+        private final String token;
+        private final String email;
+        private final long expiresAt;
+        // Plain field on purpose: a lost update only makes the recency a little less exact.
+        private boolean referenced;
+        private volatile boolean removed;
+
+        private CachedEmail(String token, String email, long expiresAt) {
+            this.token = token;
+            this.email = email;
+            this.expiresAt = expiresAt;
+        }
+
+        // Written only when the hand has cleared it, so hot entries are not written on every hit.
+        private void touch() {
+            if (!this.referenced) {
+                this.referenced = true;
+            }
+        }
+    }
+}
@@ -1,7 +1,20 @@
 package manager;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 public class UserManager {
     public boolean isSubscribed(String token) {
         return true;
     }
+
+    // Bulk lookup, one backend round trip for many tokens. Override when the backend supports it.
+    public Map<String, Boolean> areSubscribed(Collection<String> tokens) {
+        Map<String, Boolean> subscriptions = new HashMap<>();
+        for (String token : tokens) {
+            subscriptions.put(token, isSubscribed(token));
+        }
+        return subscriptions;
+    }
 }
@@ -0,0 +1,42 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class HandlerMetrics {
+    private final String apiName;
+    private final String handlerName;
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram latencyNanos = new LatencyHistogram();
+
+    public HandlerMetrics(String apiName, String handlerName) {
+        this.apiName = apiName;
+        this.handlerName = handlerName;
+    }
+
+    public void recordPassed(long nanos) {
+        this.passed.increment();
+        this.latencyNanos.record(nanos);
+    }
+
+    public void recordRejected(long nanos) {
+        this.rejected.increment();
+        this.latencyNanos.record(nanos);
+    }
+
+    public void recordFailed(long nanos) {
+        this.failed.increment();
+        this.latencyNanos.record(nanos);
+    }
+
+    public HandlerMetricsSnapshot snapshot() {
+        long[] counts = this.latencyNanos.copyCounts();
+        return new HandlerMetricsSnapshot(this.apiName, this.handlerName,
+                this.passed.sum(), this.rejected.sum(), this.failed.sum(),
+                LatencyHistogram.valueAtPercentile(counts, 50.0),
+                LatencyHistogram.valueAtPercentile(counts, 99.0),
+                LatencyHistogram.valueAtPercentile(counts, 99.9),
+                LatencyHistogram.valueAtPercentile(counts, 100.0));
+    }
+}
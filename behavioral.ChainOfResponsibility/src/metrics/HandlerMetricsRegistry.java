@@ -0,0 +1,24 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class HandlerMetricsRegistry {
+    private final ConcurrentMap<String, HandlerMetrics> metricsByKey = new ConcurrentHashMap<>();
+
+    // Called while building a chain, not per request.
+    public HandlerMetrics forHandler(String apiName, String handlerName) {
+        return this.metricsByKey.computeIfAbsent(apiName + "/" + handlerName,
+                key -> new HandlerMetrics(apiName, handlerName));
+    }
+
+    public List<HandlerMetricsSnapshot> snapshot() {
+        List<HandlerMetricsSnapshot> snapshots = new ArrayList<>();
+        for (HandlerMetrics metrics : this.metricsByKey.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        return snapshots;
+    }
+}
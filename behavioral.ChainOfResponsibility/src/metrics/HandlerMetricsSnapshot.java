@@ -0,0 +1,69 @@
+package metrics;
+
+// Point in time view of one handler. Latencies are the handler's own time in nanoseconds, excluding the handlers after it.
+public class HandlerMetricsSnapshot {
+    private final String apiName;
+    private final String handlerName;
+    private final long passed;
+    private final long rejected;
+    private final long failed;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    public HandlerMetricsSnapshot(String apiName, String handlerName, long passed, long rejected, long failed,
+                                  long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        this.apiName = apiName;
+        this.handlerName = handlerName;
+        this.passed = passed;
+        this.rejected = rejected;
+        this.failed = failed;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    public String getHandlerName() {
+        return handlerName;
+    }
+
+    public long getPassed() {
+        return passed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return apiName + "/" + handlerName + " passed=" + passed + " rejected=" + rejected + " failed=" + failed
+                + " p50=" + p50Nanos + "ns p99=" + p99Nanos + "ns p999=" + p999Nanos + "ns max=" + maxNanos + "ns";
+    }
+}
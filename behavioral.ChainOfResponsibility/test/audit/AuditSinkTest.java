@@ -0,0 +1,74 @@
+package audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditSinkTest {
+    @Test
+    void offStartsNoFlusherUntilALevelIsSet() throws InterruptedException {
+        // The default sink has its own flusher, count from after it exists.
+        AuditSink.getDefault();
+        int flushers = flusherThreads();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (AuditSink sink = new AuditSink(new PrintStream(bytes, true, StandardCharsets.UTF_8), AuditLevel.OFF, 16)) {
+            sink.warn("test", "dropped while off");
+            assertEquals(flushers, flusherThreads());
+
+            sink.setLevel(AuditLevel.INFO);
+            assertEquals(flushers + 1, flusherThreads());
+            sink.info("test", "written");
+            awaitOutput(bytes, "written");
+            assertFalse(bytes.toString(StandardCharsets.UTF_8).contains("dropped while off"));
+        }
+    }
+
+    @Test
+    void idleFlusherWakesUpForTheNextEvent() throws InterruptedException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (AuditSink sink = new AuditSink(new PrintStream(bytes, true, StandardCharsets.UTF_8), AuditLevel.INFO, 16)) {
+            for (int i = 0; i < 20; i++) {
+                // Gives the flusher time to run dry and park before each event.
+                Thread.sleep(5);
+                sink.info("test", "event " + i);
+                awaitOutput(bytes, "event " + i);
+            }
+        }
+    }
+
+    @Test
+    void closeWritesEverythingRecordedBefore() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AuditSink sink = new AuditSink(new PrintStream(bytes, true, StandardCharsets.UTF_8), AuditLevel.DEBUG, 1024);
+        for (int i = 0; i < 1000; i++) {
+            sink.debug("test", "event " + i);
+        }
+        sink.close();
+        String output = bytes.toString(StandardCharsets.UTF_8);
+        assertEquals(1000 - sink.getDroppedCount(), output.lines().count());
+    }
+
+    private static void awaitOutput(ByteArrayOutputStream bytes, String text) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!bytes.toString(StandardCharsets.UTF_8).contains(text)) {
+            assertTrue(System.nanoTime() < deadline, "not written: " + text);
+            Thread.sleep(1);
+        }
+    }
+
+    private static int flusherThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("audit-flusher")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
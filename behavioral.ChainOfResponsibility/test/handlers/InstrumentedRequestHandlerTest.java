@@ -0,0 +1,111 @@
+package handlers;
+
+import factory.RequestHandlerFactory;
+import manager.TokenManager;
+import manager.UserManager;
+import metrics.HandlerMetrics;
+import metrics.HandlerMetricsRegistry;
+import metrics.HandlerMetricsSnapshot;
+import models.Request;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedRequestHandlerTest {
+    private static final Request REQUEST = new Request();
+
+    @Test
+    void countsPassesRejectionsAndFailures() {
+        HandlerMetrics metrics = new HandlerMetrics("api", "handler");
+        outcome(metrics, () -> {
+        });
+        outcome(metrics, () -> {
+            throw new RequestRejectedException("no");
+        });
+        // A backend failing with a plain RuntimeException is a failure, not a rejection.
+        outcome(metrics, () -> {
+            throw new RuntimeException("backend down");
+        });
+        outcome(metrics, () -> {
+            throw new IllegalArgumentException("bug");
+        });
+
+        HandlerMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getPassed());
+        assertEquals(1, snapshot.getRejected());
+        assertEquals(2, snapshot.getFailed());
+    }
+
+    @Test
+    void onlyTheLinkThatThrewCountsTheOutcome() {
+        HandlerMetricsRegistry registry = new HandlerMetricsRegistry();
+        RequestHandler chain = instrumentedChain(registry, new UserManager() {
+            @Override
+            public boolean isSubscribed(String token) {
+                return false;
+            }
+        });
+        assertThrows(RequestRejectedException.class, () -> chain.handle(REQUEST));
+
+        assertEquals(1, snapshot(registry, "ValidationHandler").getPassed());
+        assertEquals(1, snapshot(registry, "AuthenticationHandler").getPassed());
+        assertEquals(1, snapshot(registry, "AuthorizationHandler").getRejected());
+        assertEquals(0, snapshot(registry, "IdleHandler").getPassed());
+    }
+
+    @Test
+    void failingBackendIsCountedAsAFailure() {
+        HandlerMetricsRegistry registry = new HandlerMetricsRegistry();
+        RequestHandler chain = instrumentedChain(registry, new UserManager() {
+            @Override
+            public boolean isSubscribed(String token) {
+                throw new RuntimeException("subscription service unavailable");
+            }
+        });
+        assertThrows(RuntimeException.class, () -> chain.handle(REQUEST));
+
+        HandlerMetricsSnapshot authorization = snapshot(registry, "AuthorizationHandler");
+        assertEquals(0, authorization.getRejected());
+        assertEquals(1, authorization.getFailed());
+    }
+
+    @Test
+    void ownTimeExcludesTheLinksAfterIt() {
+        HandlerMetrics outer = new HandlerMetrics("api", "outer");
+        HandlerMetrics inner = new HandlerMetrics("api", "inner");
+        RequestHandler slow = new InstrumentedRequestHandler(request -> sleep(20), inner);
+        new InstrumentedRequestHandler(slow::handle, outer).handle(REQUEST);
+
+        assertTrue(inner.snapshot().getMaxNanos() >= 20_000_000L);
+        assertTrue(outer.snapshot().getMaxNanos() < 10_000_000L);
+    }
+
+    private static void outcome(HandlerMetrics metrics, Runnable body) {
+        RequestHandler handler = new InstrumentedRequestHandler(request -> body.run(), metrics);
+        try {
+            handler.handle(REQUEST);
+        } catch (RuntimeException expected) {
+            // Counted by the wrapper, rethrown unchanged.
+        }
+    }
+
+    private static HandlerMetricsSnapshot snapshot(HandlerMetricsRegistry registry, String handler) {
+        return registry.forHandler("api", handler).snapshot();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    // The instrumented chain as the factory builds it, with the given UserManager.
+    private static RequestHandler instrumentedChain(HandlerMetricsRegistry registry, UserManager userManager) {
+        return RequestHandlerFactory.buildHandlers("api", new TokenManager(), userManager, registry);
+    }
+}
@@ -0,0 +1,116 @@
+package manager;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CachingTokenManagerTest {
+    private static final Duration LONG = Duration.ofMinutes(5);
+
+    // Answers from a fixed map and counts the calls per token.
+    private static final class CountingTokenManager extends TokenManager {
+        private final Map<String, String> emails = new HashMap<>();
+        private final Map<String, Integer> calls = new HashMap<>();
+
+        @Override
+        public String getEmailFromToken(String token) {
+            calls.merge(token, 1, Integer::sum);
+            return emails.get(token);
+        }
+
+        int calls(String token) {
+            return calls.getOrDefault(token, 0);
+        }
+    }
+
+    @Test
+    void validTokenExpiresAfterTtl() throws InterruptedException {
+        CountingTokenManager delegate = new CountingTokenManager();
+        delegate.emails.put("token", "user@example.com");
+        CachingTokenManager cache = new CachingTokenManager(delegate, 10, Duration.ofMillis(50), LONG);
+
+        assertEquals("user@example.com", cache.getEmailFromToken("token"));
+        assertEquals("user@example.com", cache.getEmailFromToken("token"));
+        assertEquals(1, delegate.calls("token"));
+
+        Thread.sleep(100);
+        assertEquals("user@example.com", cache.getEmailFromToken("token"));
+        assertEquals(2, delegate.calls("token"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getExpirationCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void unknownTokenIsCachedForTheNegativeTtl() throws InterruptedException {
+        CountingTokenManager delegate = new CountingTokenManager();
+        CachingTokenManager cache = new CachingTokenManager(delegate, 10, LONG, Duration.ofMillis(50));
+
+        assertNull(cache.getEmailFromToken("bad"));
+        assertNull(cache.getEmailFromToken("bad"));
+        assertEquals(1, delegate.calls("bad"));
+
+        Thread.sleep(100);
+        assertNull(cache.getEmailFromToken("bad"));
+        assertEquals(2, delegate.calls("bad"));
+        assertEquals(1, cache.getExpirationCount());
+    }
+
+    @Test
+    void emptyEmailIsCachedWithTheNormalTtl() {
+        CountingTokenManager delegate = new CountingTokenManager();
+        delegate.emails.put("token", "");
+        // A zero negative ttl would not cache the token at all if "" were taken for a miss.
+        CachingTokenManager cache = new CachingTokenManager(delegate, 10, LONG, Duration.ZERO);
+
+        cache.getEmailFromToken("token");
+        cache.getEmailFromToken("token");
+        assertEquals(1, delegate.calls("token"));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void sizeStaysAtTheBoundAndEvictionsAreCountedApartFromExpirations() {
+        CountingTokenManager delegate = new CountingTokenManager();
+        CachingTokenManager cache = new CachingTokenManager(delegate, 10, LONG, LONG);
+        for (int i = 0; i < 100; i++) {
+            cache.getEmailFromToken("token-" + i);
+        }
+        assertEquals(10, cache.size());
+        assertEquals(90, cache.getEvictionCount());
+        assertEquals(0, cache.getExpirationCount());
+        assertEquals(100, cache.getMissCount());
+    }
+
+    @Test
+    void recentlyUsedTokenSurvivesEviction() {
+        CountingTokenManager delegate = new CountingTokenManager();
+        CachingTokenManager cache = new CachingTokenManager(delegate, 2, LONG, LONG);
+        cache.getEmailFromToken("a");
+        cache.getEmailFromToken("b");
+        cache.getEmailFromToken("a");
+        cache.getEmailFromToken("c");
+
+        cache.getEmailFromToken("a");
+        assertEquals(1, delegate.calls("a"));
+        cache.getEmailFromToken("b");
+        assertEquals(2, delegate.calls("b"));
+    }
+
+    @Test
+    void invalidatedTokenGoesBackToTheDelegate() {
+        CountingTokenManager delegate = new CountingTokenManager();
+        CachingTokenManager cache = new CachingTokenManager(delegate, 10, LONG, LONG);
+        cache.getEmailFromToken("token");
+        cache.invalidate("token");
+        cache.getEmailFromToken("token");
+        assertEquals(2, delegate.calls("token"));
+        assertEquals(0, cache.getEvictionCount() + cache.getExpirationCount());
+    }
+}
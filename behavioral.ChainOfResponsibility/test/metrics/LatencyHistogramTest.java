@@ -0,0 +1,74 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    @Test
+    void emptyHistogramReportsZero() {
+        long[] counts = new LatencyHistogram().copyCounts();
+        assertEquals(0, LatencyHistogram.valueAtPercentile(counts, 50.0));
+        assertEquals(0, LatencyHistogram.valueAtPercentile(counts, 100.0));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+        long[] counts = histogram.copyCounts();
+        assertEquals(10, LatencyHistogram.valueAtPercentile(counts, 50.0));
+        assertEquals(20, LatencyHistogram.valueAtPercentile(counts, 99.0));
+        assertEquals(20, LatencyHistogram.valueAtPercentile(counts, 100.0));
+    }
+
+    @Test
+    void percentilesOfAUniformSpreadAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        long[] counts = histogram.copyCounts();
+        assertWithinPrecision(50_000, LatencyHistogram.valueAtPercentile(counts, 50.0));
+        assertWithinPrecision(99_000, LatencyHistogram.valueAtPercentile(counts, 99.0));
+        assertWithinPrecision(99_900, LatencyHistogram.valueAtPercentile(counts, 99.9));
+        assertWithinPrecision(100_000, LatencyHistogram.valueAtPercentile(counts, 100.0));
+    }
+
+    @Test
+    void rareSlowCallsShowInTheTailOnly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 9_990; i++) {
+            histogram.record(1_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(5_000_000);
+        }
+        long[] counts = histogram.copyCounts();
+        assertWithinPrecision(1_000, LatencyHistogram.valueAtPercentile(counts, 50.0));
+        assertWithinPrecision(1_000, LatencyHistogram.valueAtPercentile(counts, 99.0));
+        assertWithinPrecision(5_000_000, LatencyHistogram.valueAtPercentile(counts, 99.95));
+        assertWithinPrecision(5_000_000, LatencyHistogram.valueAtPercentile(counts, 100.0));
+    }
+
+    @Test
+    void everyValueLandsInABucketThatCoversIt() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            long highest = LatencyHistogram.highestValueIn(LatencyHistogram.bucketIndex(value));
+            assertTrue(highest >= value, "value " + value);
+            assertTrue(highest - value <= value / 32, "value " + value + " reported as " + highest);
+        }
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 32,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -1,3 +1,6 @@
+import memento.Editor;
+import memento.EditorMemento;
+
 public class Main {
     public static void main(String[] args) {
         Editor editor = new Editor();
@@ -1,3 +1,5 @@
+package memento;
+
 public class Editor {
     private String content = "";
 
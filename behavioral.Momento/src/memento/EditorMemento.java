@@ -1,3 +1,5 @@
+package memento;
+
 public class EditorMemento {
     private String content;
 
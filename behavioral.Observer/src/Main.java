@@ -1,3 +1,7 @@
+import observer.EmploymentAgency;
+import observer.JobPost;
+import observer.JobSeeker;
+
 public class Main {
     public static void main(String[] args) {
 
@@ -1,3 +1,5 @@
+package observer;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -1,3 +1,5 @@
+package observer;
+
 public class JobSeeker implements Observer {
     private String name;
 
@@ -1,3 +1,5 @@
+package observer;
+
 public interface Observer {
     void onJobPosted(JobPost job);
 }
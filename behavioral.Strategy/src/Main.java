@@ -1,7 +1,10 @@
 import sorter.Sorter;
+import strategy.AdaptiveSortStrategy;
 import strategy.BubbleSortStrategy;
 import strategy.QuickSortStrategy;
 
+import java.util.Arrays;
+
 public class Main {
     public static void main(String[] args) {
         int[] smallDataset = {1, 3, 4, 2};
@@ -9,5 +12,12 @@ public class Main {
         Sorter sorter = new Sorter(new BubbleSortStrategy(), new QuickSortStrategy());
         sorter.sort(smallDataset);
         sorter.sort(bigDataset);
+        System.out.println(Arrays.toString(smallDataset));
+        System.out.println(Arrays.toString(bigDataset));
+
+        // Lets the strategy inspect the data and pick the algorithm itself.
+        int[] randomDataset = {42, -7, 19, 0, 3, 3, 88, -15, 27, 64, 5, 11};
+        new Sorter(new AdaptiveSortStrategy()).sort(randomDataset);
+        System.out.println(Arrays.toString(randomDataset));
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,106 @@
 package sorter;
 
+import strategy.BufferSortStrategy;
+import strategy.DoubleRadixSortStrategy;
+import strategy.DoubleSortStrategy;
+import strategy.IntroSelectStrategy;
+import strategy.KeyIndexSortStrategy;
+import strategy.KeyedSortStrategy;
+import strategy.LongRadixSortStrategy;
+import strategy.LongSortStrategy;
+import strategy.OffHeapSortStrategy;
+import strategy.PartialSortStrategy;
 import strategy.SortStrategy;
 
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.function.ToLongFunction;
+
 public class Sorter {
+    private static final int DEFAULT_SMALL_THRESHOLD = 5;
+
     private final SortStrategy sorterSmall;
     private final SortStrategy sorterBig;
+    private final int smallThreshold;
+    private final LongSortStrategy longSorter;
+    private final DoubleSortStrategy doubleSorter;
+    private final KeyedSortStrategy keyedSorter;
+    private final PartialSortStrategy partialSorter;
+    private final BufferSortStrategy bufferSorter;
 
     public Sorter(SortStrategy sorterSmall, SortStrategy sorterBig) {
+        this(sorterSmall, sorterBig, DEFAULT_SMALL_THRESHOLD);
+    }
+
+    // Datasets up to smallThreshold elements go to sorterSmall.
+    public Sorter(SortStrategy sorterSmall, SortStrategy sorterBig, int smallThreshold) {
+        this(sorterSmall, sorterBig, smallThreshold,
+                new LongRadixSortStrategy(), new DoubleRadixSortStrategy(), new KeyIndexSortStrategy(),
+                new IntroSelectStrategy(), new OffHeapSortStrategy());
+    }
+
+    // For strategies that pick their own algorithm, e.g. AdaptiveSortStrategy.
+    public Sorter(SortStrategy sorter) {
+        this(sorter, sorter, 0);
+    }
+
+    public Sorter(SortStrategy sorterSmall, SortStrategy sorterBig, int smallThreshold,
+                  LongSortStrategy longSorter, DoubleSortStrategy doubleSorter, KeyedSortStrategy keyedSorter,
+                  PartialSortStrategy partialSorter, BufferSortStrategy bufferSorter) {
         this.sorterSmall = sorterSmall;
         this.sorterBig = sorterBig;
+        this.smallThreshold = smallThreshold;
+        this.longSorter = longSorter;
+        this.doubleSorter = doubleSorter;
+        this.keyedSorter = keyedSorter;
+        this.partialSorter = partialSorter;
+        this.bufferSorter = bufferSorter;
     }
 
     public void sort(int[] dataset) {
-        if (dataset.length > 5) {
+        if (dataset.length > smallThreshold) {
             sorterBig.sort(dataset);
         } else {
             sorterSmall.sort(dataset);
         }
     }
+
+    public void sort(long[] dataset) {
+        longSorter.sort(dataset);
+    }
+
+    public void sort(double[] dataset) {
+        doubleSorter.sort(dataset);
+    }
+
+    public <T> void sort(T[] items, ToLongFunction<? super T> key) {
+        keyedSorter.sort(items, key);
+    }
+
+    // Sorts dataset[position, limit) where it is, e.g. an off-heap column.
+    public void sort(IntBuffer dataset) {
+        bufferSorter.sort(dataset);
+    }
+
+    public void sort(LongBuffer dataset) {
+        bufferSorter.sort(dataset);
+    }
+
+    // The k-th smallest value (0 based), dataset is reordered around it.
+    public int select(int[] dataset, int k) {
+        return partialSorter.select(dataset, k);
+    }
+
+    // Only the first k positions end up sorted, cheaper than sort() when k is small.
+    public void partialSort(int[] dataset, int k) {
+        partialSorter.partialSort(dataset, k);
+    }
+
+    public int[] smallest(int[] dataset, int k) {
+        return partialSorter.smallest(dataset, k);
+    }
+
+    public int[] largest(int[] dataset, int k) {
+        return partialSorter.largest(dataset, k);
+    }
 }
@@ -0,0 +1,149 @@
+package strategy;
+
+import java.util.Random;
+
+/*
+    Looks at the input before choosing how to sort it:
+    - tiny arrays                      -> insertion sort
+    - few descents (nearly sorted)     -> run merge sort
+    - large, or narrow value range,
+      or mostly duplicates             -> radix sort (fewer passes when all values share their high bytes)
+    - everything else                  -> dual pivot quicksort
+    The inspection is one linear scan plus a small sample, cheap next to the sort itself.
+    Holds the scratch buffers of the strategies it delegates to, so not thread safe.
+ */
+public class AdaptiveSortStrategy implements SortStrategy {
+    // Nearly sorted means at most one descent per this many elements.
+    private static final int PRESORTED_RATIO = 64;
+    private static final int SAMPLE_SIZE = 64;
+    private static final double HIGH_DUPLICATE_RATIO = 0.5;
+
+    private final SortThresholds thresholds;
+    private final SortStrategy insertionSort = new InsertionSortStrategy();
+    private final SortStrategy runMergeSort = new RunMergeSortStrategy();
+    private final SortStrategy radixSort = new RadixSortStrategy();
+    private final SortStrategy quickSort = new QuickSortStrategy();
+    private final int[] sample = new int[SAMPLE_SIZE];
+
+    public AdaptiveSortStrategy() {
+        this(SortThresholds.DEFAULT);
+    }
+
+    public AdaptiveSortStrategy(SortThresholds thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public int[] sort(int[] dataset) {
+        return choose(dataset).sort(dataset);
+    }
+
+    SortStrategy choose(int[] dataset) {
+        int length = dataset.length;
+        if (length <= this.thresholds.getInsertionMaxLength()) {
+            return this.insertionSort;
+        }
+        int descents = 0;
+        int min = dataset[0];
+        int max = dataset[0];
+        for (int i = 1; i < length; i++) {
+            int value = dataset[i];
+            if (value < dataset[i - 1]) {
+                descents++;
+            }
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        int ascentsOrEquals = length - 1 - descents;
+        if (descents <= length / PRESORTED_RATIO || ascentsOrEquals <= length / PRESORTED_RATIO) {
+            return this.runMergeSort;
+        }
+        // Every value lies between min and max, so they all share the high bits min and max have in common.
+        int radixPasses = (32 - Integer.numberOfLeadingZeros(min ^ max) + 7) / 8;
+        int radixMinLength = this.thresholds.getRadixMinLength() * radixPasses / 4;
+        if (length >= radixMinLength) {
+            return this.radixSort;
+        }
+        if (length >= radixMinLength / 4 && duplicateRatio(dataset) >= HIGH_DUPLICATE_RATIO) {
+            return this.radixSort;
+        }
+        return this.quickSort;
+    }
+
+    // Share of equal neighbours in a sorted, evenly spaced sample of at most SAMPLE_SIZE values.
+    private double duplicateRatio(int[] dataset) {
+        int count = Math.min(SAMPLE_SIZE, dataset.length);
+        if (count < 2) {
+            return 0;
+        }
+        int step = Math.max(1, dataset.length / SAMPLE_SIZE);
+        for (int i = 0; i < count; i++) {
+            this.sample[i] = dataset[i * step];
+        }
+        InsertionSortStrategy.sort(this.sample, 0, count);
+        int duplicates = 0;
+        for (int i = 1; i < count; i++) {
+            if (this.sample[i] == this.sample[i - 1]) {
+                duplicates++;
+            }
+        }
+        return (double) duplicates / (count - 1);
+    }
+
+    /*
+        Measures where insertion sort stops beating quicksort and where radix sort starts beating it
+        on random data on this machine. Takes a few hundred milliseconds, meant to run once at startup.
+     */
+    public static SortThresholds calibrate() {
+        Random random = new Random(42);
+        RadixSortStrategy radix = new RadixSortStrategy();
+        // Let the JIT compile all candidates before anything is timed.
+        int[] warmup = random.ints(1024).toArray();
+        bestTime(warmup, data -> InsertionSortStrategy.sort(data, 0, 64), 2000);
+        bestTime(warmup, data -> QuickSortStrategy.sort(data, 0, data.length), 2000);
+        bestTime(warmup, radix::sort, 2000);
+
+        int insertionMaxLength = 8;
+        for (int length = 8; length <= 256; length += 8) {
+            int[] input = random.ints(length).toArray();
+            long insertion = bestTime(input, data -> InsertionSortStrategy.sort(data, 0, data.length), 2000);
+            long quick = bestTime(input, data -> QuickSortStrategy.sort(data, 0, data.length), 2000);
+            if (insertion > quick) {
+                break;
+            }
+            insertionMaxLength = length;
+        }
+
+        int radixMinLength = 1 << 20;
+        for (int length = 256; length <= 1 << 20; length <<= 1) {
+            int[] input = random.ints(length).toArray();
+            int repeats = Math.max(3, (1 << 22) / length);
+            long radixTime = bestTime(input, radix::sort, repeats);
+            long quick = bestTime(input, data -> QuickSortStrategy.sort(data, 0, data.length), repeats);
+            if (radixTime < quick) {
+                radixMinLength = length;
+                break;
+            }
+        }
+        return new SortThresholds(insertionMaxLength, radixMinLength);
+    }
+
+    private interface Timed {
+        void sort(int[] data);
+    }
+
+    private static long bestTime(int[] input, Timed sort, int repeats) {
+        int[] work = new int[input.length];
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            System.arraycopy(input, 0, work, 0, input.length);
+            long start = System.nanoTime();
+            sort.sort(work);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -4,7 +4,20 @@ public class BubbleSortStrategy implements SortStrategy {
 
     @Override
     public int[] sort(int[] dataset) {
-        System.out.println("Sorting using bubble.");
+        for (int end = dataset.length - 1; end > 0; end--) {
+            boolean swapped = false;
+            for (int i = 0; i < end; i++) {
+                if (dataset[i] > dataset[i + 1]) {
+                    int tmp = dataset[i];
+                    dataset[i] = dataset[i + 1];
+                    dataset[i + 1] = tmp;
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
         return dataset;
     }
 }
@@ -0,0 +1,11 @@
+package strategy;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+// Sorts the values between position and limit in place. With a view of a direct or mapped ByteBuffer the data stays off-heap.
+public interface BufferSortStrategy {
+    IntBuffer sort(IntBuffer dataset);
+
+    LongBuffer sort(LongBuffer dataset);
+}
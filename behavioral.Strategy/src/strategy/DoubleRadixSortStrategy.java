@@ -0,0 +1,34 @@
+package strategy;
+
+/*
+    Sorts doubles as longs: the bits of a negative double are flipped (except the sign), after which plain long
+    order is double order. Same result as Arrays.sort(double[]): -0.0 before 0.0 and NaN last.
+    Keeps its buffers between calls, so not thread safe.
+ */
+public class DoubleRadixSortStrategy implements DoubleSortStrategy {
+    private final int[][] counts = new int[8][256];
+    private long[] keys = new long[0];
+    private long[] keyScratch = new long[0];
+
+    @Override
+    public double[] sort(double[] dataset) {
+        int length = dataset.length;
+        if (this.keys.length < length) {
+            this.keys = new long[length];
+            this.keyScratch = new long[length];
+        }
+        for (int i = 0; i < length; i++) {
+            this.keys[i] = toSortable(Double.doubleToLongBits(dataset[i]));
+        }
+        LongRadixSortStrategy.sort(this.keys, null, this.keyScratch, null, length, this.counts);
+        for (int i = 0; i < length; i++) {
+            dataset[i] = Double.longBitsToDouble(toSortable(this.keys[i]));
+        }
+        return dataset;
+    }
+
+    // Its own inverse, the sign bit is left alone.
+    private static long toSortable(long bits) {
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,5 @@
+package strategy;
+
+public interface DoubleSortStrategy {
+    double[] sort(double[] dataset);
+}
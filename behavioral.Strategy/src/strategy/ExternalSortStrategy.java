@@ -0,0 +1,277 @@
+package strategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    External merge sort for files of fixed width, big endian ints or longs (the DataOutputStream layout).
+    1. The input is memory mapped runElements at a time, each run is sorted on the heap and written to a temp file.
+    2. All runs are merged in one pass: every run has a cursor with its own direct read buffer,
+       a binary heap of cursors yields the smallest value, output goes through a direct write buffer.
+    Only one run plus the I/O buffers are ever on the heap. The result is written to a temp file next to the output and
+    moved over it at the end, so the output may be the input itself and is never left half written.
+    Runs go next to the output too, unless a run directory is given: together they take as much space as the input,
+    which java.io.tmpdir - often a small tmpfs held in memory - may not have.
+ */
+public class ExternalSortStrategy implements FileSortStrategy {
+    public enum Width {
+        INT(Integer.BYTES), LONG(Long.BYTES);
+
+        private final int bytes;
+
+        Width(int bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+    private static final int MERGE_BUFFER_BYTES = 64 << 20;
+    private static final int MIN_CURSOR_BUFFER_BYTES = 64 << 10;
+    private static final long PROGRESS_EVERY = 1 << 20;
+
+    private final Width width;
+    private final int runElements;
+    private final SortStrategy runSorter;
+    private final LongSortStrategy longRunSorter = new LongRadixSortStrategy();
+    private final SortProgressListener listener;
+    private final Path runDirectory;
+
+    public ExternalSortStrategy(Width width, int runElements) {
+        this(width, runElements, new RadixSortStrategy(), SortProgressListener.NONE);
+    }
+
+    // runSorter sorts the int runs, long runs are radix sorted.
+    public ExternalSortStrategy(Width width, int runElements, SortStrategy runSorter, SortProgressListener listener) {
+        this(width, runElements, runSorter, listener, null);
+    }
+
+    // Runs are written to runDirectory, or next to the output when it is null.
+    public ExternalSortStrategy(Width width, int runElements, SortStrategy runSorter, SortProgressListener listener,
+                                Path runDirectory) {
+        if (runElements <= 0) {
+            throw new IllegalArgumentException("Run size must be positive.");
+        }
+        this.width = width;
+        this.runElements = runElements;
+        this.runSorter = runSorter;
+        this.listener = listener;
+        this.runDirectory = runDirectory;
+    }
+
+    @Override
+    public void sort(Path input, Path output) throws IOException {
+        Path outputDirectory = output.toAbsolutePath().getParent();
+        Path sorted = Files.createTempFile(outputDirectory, "sort-", ".tmp");
+        Path runDirectory = this.runDirectory != null ? this.runDirectory : outputDirectory;
+        List<Path> runs = new ArrayList<>();
+        try {
+            // One direct write buffer for every run and the merge of this sort.
+            ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+                long size = in.size();
+                if (size % this.width.bytes != 0) {
+                    throw new IOException(input + " is not a whole number of " + this.width + " values.");
+                }
+                long total = size / this.width.bytes;
+                writeRuns(in, total, sorted, runDirectory, runs, buffer);
+                if (runs.size() > 1) {
+                    merge(runs, total, sorted, buffer);
+                }
+            }
+            replace(sorted, output);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            Files.deleteIfExists(sorted);
+        }
+    }
+
+    private static void replace(Path sorted, Path output) throws IOException {
+        try {
+            Files.move(sorted, output, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(sorted, output, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // A single run is written straight to sorted, otherwise every run goes to its own temp file.
+    private void writeRuns(FileChannel in, long total, Path sorted, Path runDirectory, List<Path> runs,
+                           ByteBuffer buffer) throws IOException {
+        boolean singleRun = total <= this.runElements;
+        long start = System.nanoTime();
+        long done = 0;
+        while (done < total || (total == 0 && runs.isEmpty())) {
+            int count = (int) Math.min(this.runElements, total - done);
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, done * this.width.bytes,
+                    (long) count * this.width.bytes);
+            Path run = singleRun ? sorted : Files.createTempFile(runDirectory, "sort-run-", ".bin");
+            if (!singleRun) {
+                runs.add(run);
+            }
+            try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (this.width == Width.INT) {
+                    int[] values = new int[count];
+                    mapped.asIntBuffer().get(values);
+                    this.runSorter.sort(values);
+                    writeInts(out, values, buffer);
+                } else {
+                    long[] values = new long[count];
+                    mapped.asLongBuffer().get(values);
+                    this.longRunSorter.sort(values);
+                    writeLongs(out, values, buffer);
+                }
+            }
+            done += count;
+            this.listener.onProgress("runs", done, total, rate(done, start));
+            if (total == 0) {
+                break;
+            }
+        }
+    }
+
+    private void merge(List<Path> runs, long total, Path output, ByteBuffer buffer) throws IOException {
+        int cursorBufferBytes = Math.max(MIN_CURSOR_BUFFER_BYTES, MERGE_BUFFER_BYTES / runs.size());
+        cursorBufferBytes -= cursorBufferBytes % this.width.bytes;
+        Cursor[] heap = new Cursor[runs.size()];
+        int heapSize = 0;
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path run : runs) {
+                Cursor cursor = new Cursor(FileChannel.open(run, StandardOpenOption.READ), cursorBufferBytes, this.width);
+                if (cursor.advance()) {
+                    heap[heapSize++] = cursor;
+                } else {
+                    cursor.close();
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, heapSize);
+            }
+
+            long start = System.nanoTime();
+            long done = 0;
+            while (heapSize > 0) {
+                Cursor smallest = heap[0];
+                if (buffer.remaining() < this.width.bytes) {
+                    drain(out, buffer);
+                }
+                if (this.width == Width.INT) {
+                    buffer.putInt((int) smallest.current);
+                } else {
+                    buffer.putLong(smallest.current);
+                }
+                if (!smallest.advance()) {
+                    smallest.close();
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, 0, heapSize);
+                if (++done % PROGRESS_EVERY == 0) {
+                    this.listener.onProgress("merge", done, total, rate(done, start));
+                }
+            }
+            drain(out, buffer);
+            this.listener.onProgress("merge", done, total, rate(done, start));
+        } finally {
+            for (int i = 0; i < heapSize; i++) {
+                heap[i].close();
+            }
+        }
+    }
+
+    private static void siftDown(Cursor[] heap, int i, int size) {
+        Cursor cursor = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].current < heap[child].current) {
+                child++;
+            }
+            if (heap[child].current >= cursor.current) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = cursor;
+    }
+
+    private static void writeInts(FileChannel out, int[] values, ByteBuffer buffer) throws IOException {
+        for (int offset = 0; offset < values.length; ) {
+            int count = Math.min(values.length - offset, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+            drain(out, buffer);
+        }
+    }
+
+    private static void writeLongs(FileChannel out, long[] values, ByteBuffer buffer) throws IOException {
+        for (int offset = 0; offset < values.length; ) {
+            int count = Math.min(values.length - offset, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+            drain(out, buffer);
+        }
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static double rate(long done, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed == 0 ? 0 : done * 1e9 / elapsed;
+    }
+
+    // Reads one sorted run sequentially, current holds the value at the head of the run.
+    private static final class Cursor {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final Width width;
+        private long current;
+
+        private Cursor(FileChannel channel, int bufferBytes, Width width) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+            this.buffer.flip();
+            this.width = width;
+        }
+
+        private boolean advance() throws IOException {
+            if (this.buffer.remaining() < this.width.bytes) {
+                this.buffer.compact();
+                while (this.buffer.position() < this.width.bytes) {
+                    if (this.channel.read(this.buffer) < 0) {
+                        this.buffer.flip();
+                        return false;
+                    }
+                }
+                this.buffer.flip();
+            }
+            this.current = this.width == Width.INT ? this.buffer.getInt() : this.buffer.getLong();
+            return true;
+        }
+
+        private void close() throws IOException {
+            this.channel.close();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package strategy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// For datasets that live in files and may not fit on the heap.
+public interface FileSortStrategy {
+    void sort(Path input, Path output) throws IOException;
+}
@@ -0,0 +1,24 @@
+package strategy;
+
+// Best choice for tiny or almost sorted arrays, also used by the other strategies to finish small ranges.
+public class InsertionSortStrategy implements SortStrategy {
+
+    @Override
+    public int[] sort(int[] dataset) {
+        sort(dataset, 0, dataset.length);
+        return dataset;
+    }
+
+    // Sorts dataset[from, to).
+    static void sort(int[] dataset, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int value = dataset[i];
+            int j = i - 1;
+            while (j >= from && dataset[j] > value) {
+                dataset[j + 1] = dataset[j];
+                j--;
+            }
+            dataset[j + 1] = value;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package strategy;
+
+import java.util.Arrays;
+
+/*
+    select / partialSort: in place introselect - quickselect with a three way partition (so duplicates are cheap)
+    that falls back to heapsort on the remaining range when it recurses too deep. Expected O(n),
+    partialSort adds O(k log k) to sort the first k.
+    smallest / largest: one pass over the input into a buffer of 2k values. Whenever it fills up, introselect keeps the
+    best k and their boundary value, later values that cannot beat it are skipped. Each compaction costs O(k) and frees
+    k slots, so the pass is O(n), sorting the k kept values adds O(k log k). The input is not touched.
+ */
+public class IntroSelectStrategy implements PartialSortStrategy {
+    private static final int INSERTION_THRESHOLD = 16;
+
+    @Override
+    public int select(int[] dataset, int k) {
+        checkIndex(dataset, k);
+        return select(dataset, 0, dataset.length, k);
+    }
+
+    @Override
+    public int[] partialSort(int[] dataset, int k) {
+        checkCount(dataset, k);
+        if (k == 0) {
+            return dataset;
+        }
+        if (k < dataset.length) {
+            select(dataset, 0, dataset.length, k - 1);
+        }
+        QuickSortStrategy.sort(dataset, 0, k);
+        return dataset;
+    }
+
+    @Override
+    public int[] smallest(int[] dataset, int k) {
+        checkCount(dataset, k);
+        if (k == 0) {
+            return new int[0];
+        }
+        int[] buffer = new int[bufferLength(dataset, k)];
+        int size = 0;
+        // Once the buffer has been compacted, the largest value kept, nothing at or above it is among the k smallest.
+        int bound = 0;
+        boolean compacted = false;
+        for (int value : dataset) {
+            if (compacted && value >= bound) {
+                continue;
+            }
+            if (size == buffer.length) {
+                bound = select(buffer, 0, size, k - 1);
+                size = k;
+                compacted = true;
+                if (value >= bound) {
+                    continue;
+                }
+            }
+            buffer[size++] = value;
+        }
+        if (size > k) {
+            select(buffer, 0, size, k - 1);
+        }
+        QuickSortStrategy.sort(buffer, 0, k);
+        return buffer.length == k ? buffer : Arrays.copyOf(buffer, k);
+    }
+
+    @Override
+    public int[] largest(int[] dataset, int k) {
+        checkCount(dataset, k);
+        if (k == 0) {
+            return new int[0];
+        }
+        int[] buffer = new int[bufferLength(dataset, k)];
+        int size = 0;
+        // Once the buffer has been compacted, the smallest value kept.
+        int bound = 0;
+        boolean compacted = false;
+        for (int value : dataset) {
+            if (compacted && value <= bound) {
+                continue;
+            }
+            if (size == buffer.length) {
+                bound = keepLargest(buffer, size, k);
+                size = k;
+                compacted = true;
+                if (value <= bound) {
+                    continue;
+                }
+            }
+            buffer[size++] = value;
+        }
+        if (size > k) {
+            keepLargest(buffer, size, k);
+        }
+        QuickSortStrategy.sort(buffer, 0, k);
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            swap(buffer, i, j);
+        }
+        return buffer.length == k ? buffer : Arrays.copyOf(buffer, k);
+    }
+
+    // k is an absolute index inside [from, to).
+    static int select(int[] a, int from, int to, int k) {
+        int lo = from;
+        int hi = to - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (hi - lo >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                QuickSortStrategy.heapSort(a, lo, hi + 1);
+                return a[k];
+            }
+            int pivot = medianOfThree(a[lo], a[(lo + hi) >>> 1], a[hi]);
+            // Three way partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot.
+            int lt = lo;
+            int i = lo;
+            int gt = hi;
+            while (i <= gt) {
+                if (a[i] < pivot) {
+                    swap(a, lt++, i++);
+                } else if (a[i] > pivot) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return pivot;
+            }
+        }
+        InsertionSortStrategy.sort(a, lo, hi + 1);
+        return a[k];
+    }
+
+    // Room for 2k values, or the whole input when that is smaller.
+    private static int bufferLength(int[] dataset, int k) {
+        return (int) Math.min(dataset.length, 2L * k);
+    }
+
+    // Moves the k largest of buffer[0, size) to buffer[0, k) and returns the smallest of them.
+    private static int keepLargest(int[] buffer, int size, int k) {
+        int bound = select(buffer, 0, size, size - k);
+        System.arraycopy(buffer, size - k, buffer, 0, k);
+        return bound;
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+
+    private static void checkIndex(int[] dataset, int k) {
+        if (k < 0 || k >= dataset.length) {
+            throw new IllegalArgumentException("k must be in [0, " + dataset.length + "), was " + k);
+        }
+    }
+
+    private static void checkCount(int[] dataset, int k) {
+        if (k < 0 || k > dataset.length) {
+            throw new IllegalArgumentException("k must be in [0, " + dataset.length + "], was " + k);
+        }
+    }
+}
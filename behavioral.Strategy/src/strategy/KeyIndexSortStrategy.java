@@ -0,0 +1,49 @@
+package strategy;
+
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+
+/*
+    Sorts objects by a primitive key without a Comparator: keys are extracted once into a long[],
+    radix sorted together with the index of their object, and the objects are then moved by that permutation.
+    Stable, so items with equal keys keep their order. Keeps its buffers between calls, so not thread safe.
+ */
+public class KeyIndexSortStrategy implements KeyedSortStrategy {
+    private final int[][] counts = new int[8][256];
+    private long[] keys = new long[0];
+    private long[] keyScratch = new long[0];
+    private int[] indexes = new int[0];
+    private int[] indexScratch = new int[0];
+    private Object[] items = new Object[0];
+
+    @Override
+    public <T> T[] sort(T[] items, ToLongFunction<? super T> key) {
+        int length = items.length;
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            this.keys[i] = key.applyAsLong(items[i]);
+            this.indexes[i] = i;
+        }
+        LongRadixSortStrategy.sort(this.keys, this.indexes, this.keyScratch, this.indexScratch, length, this.counts);
+
+        System.arraycopy(items, 0, this.items, 0, length);
+        for (int i = 0; i < length; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) this.items[this.indexes[i]];
+            items[i] = item;
+        }
+        // Do not keep the caller's objects reachable.
+        Arrays.fill(this.items, 0, length, null);
+        return items;
+    }
+
+    private void ensureCapacity(int length) {
+        if (this.keys.length < length) {
+            this.keys = new long[length];
+            this.keyScratch = new long[length];
+            this.indexes = new int[length];
+            this.indexScratch = new int[length];
+            this.items = new Object[length];
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package strategy;
+
+import java.util.function.ToLongFunction;
+
+// Sorts objects by a primitive key, int keys widen to long.
+public interface KeyedSortStrategy {
+    <T> T[] sort(T[] items, ToLongFunction<? super T> key);
+}
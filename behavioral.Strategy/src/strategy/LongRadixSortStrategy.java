@@ -0,0 +1,107 @@
+package strategy;
+
+import java.util.Arrays;
+
+/*
+    LSD radix sort for long[], one byte per pass, passes where every value has the same byte are skipped.
+    The same routine can carry an int payload along with each key, which is how KeyIndexSortStrategy
+    sorts objects by key. Scratch buffers are kept between calls, so not thread safe.
+ */
+public class LongRadixSortStrategy implements LongSortStrategy {
+    private static final int RADIX = 256;
+    private static final int PASSES = 8;
+    private static final int INSERTION_THRESHOLD = 64;
+
+    private final int[][] counts = new int[PASSES][RADIX];
+    private long[] scratch = new long[0];
+
+    @Override
+    public long[] sort(long[] dataset) {
+        if (this.scratch.length < dataset.length) {
+            this.scratch = new long[dataset.length];
+        }
+        sort(dataset, null, this.scratch, null, dataset.length, this.counts);
+        return dataset;
+    }
+
+    /*
+        Sorts keys[0, length), moving payload[i] together with keys[i] when payload is not null (stable).
+        The scratch arrays must be at least length long, counts is PASSES x RADIX.
+     */
+    static void sort(long[] keys, int[] payload, long[] keyScratch, int[] payloadScratch, int length, int[][] counts) {
+        if (length < INSERTION_THRESHOLD) {
+            insertionSort(keys, payload, length);
+            return;
+        }
+        for (int[] passCounts : counts) {
+            Arrays.fill(passCounts, 0);
+        }
+        for (int i = 0; i < length; i++) {
+            long key = keys[i];
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][digit(key, pass)]++;
+            }
+        }
+
+        long[] keysFrom = keys;
+        long[] keysTo = keyScratch;
+        int[] payloadFrom = payload;
+        int[] payloadTo = payloadScratch;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] passCounts = counts[pass];
+            if (passCounts[digit(keysFrom[0], pass)] == length) {
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int count = passCounts[bucket];
+                passCounts[bucket] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int target = passCounts[digit(keysFrom[i], pass)]++;
+                keysTo[target] = keysFrom[i];
+                if (payload != null) {
+                    payloadTo[target] = payloadFrom[i];
+                }
+            }
+            long[] keySwap = keysFrom;
+            keysFrom = keysTo;
+            keysTo = keySwap;
+            int[] payloadSwap = payloadFrom;
+            payloadFrom = payloadTo;
+            payloadTo = payloadSwap;
+        }
+        if (keysFrom != keys) {
+            System.arraycopy(keysFrom, 0, keys, 0, length);
+            if (payload != null) {
+                System.arraycopy(payloadFrom, 0, payload, 0, length);
+            }
+        }
+    }
+
+    // The sign bit is flipped on the last pass so negative numbers come first.
+    private static int digit(long key, int pass) {
+        int digit = (int) (key >>> (pass * 8)) & 0xFF;
+        return pass == PASSES - 1 ? digit ^ 0x80 : digit;
+    }
+
+    private static void insertionSort(long[] keys, int[] payload, int length) {
+        for (int i = 1; i < length; i++) {
+            long key = keys[i];
+            int value = payload != null ? payload[i] : 0;
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                if (payload != null) {
+                    payload[j + 1] = payload[j];
+                }
+                j--;
+            }
+            keys[j + 1] = key;
+            if (payload != null) {
+                payload[j + 1] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package strategy;
+
+public interface LongSortStrategy {
+    long[] sort(long[] dataset);
+}
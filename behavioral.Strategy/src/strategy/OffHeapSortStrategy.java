@@ -0,0 +1,221 @@
+package strategy;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/*
+    Introsort (median of three quicksort, insertion sort for short ranges, heapsort when recursion gets too deep)
+    working directly on IntBuffer / LongBuffer through absolute get and put.
+    Used on views of a direct ByteBuffer or a MappedByteBuffer, the column is sorted where it lives:
+    nothing is copied to the heap and no scratch memory is needed, so large columns add no GC pressure.
+    The int and long versions are the same algorithm written out twice, as the JDK does per primitive type: a shared
+    version needs an accessor interface, whose get/put/compare calls in the inner loops would no longer inline once
+    both buffer types have been sorted. A change to one has to be made to the other, OffHeapSortStrategyTest runs the
+    same cases through both.
+ */
+public class OffHeapSortStrategy implements BufferSortStrategy {
+    private static final int INSERTION_THRESHOLD = 24;
+
+    @Override
+    public IntBuffer sort(IntBuffer dataset) {
+        int from = dataset.position();
+        int to = dataset.limit();
+        if (to - from > 1) {
+            sort(dataset, from, to - 1, maxDepth(to - from));
+        }
+        return dataset;
+    }
+
+    // Past this many nested partitions the input is treated as adversarial and the range is heap sorted.
+    private static int maxDepth(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    // Bounds are inclusive.
+    private static void sort(IntBuffer a, int left, int right, int depth) {
+        while (right - left >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right + 1);
+                return;
+            }
+            int middle = (left + right) >>> 1;
+            // Median of three to a[left], then a Hoare partition around it.
+            if (a.get(middle) < a.get(left)) {
+                swap(a, middle, left);
+            }
+            if (a.get(right) < a.get(left)) {
+                swap(a, right, left);
+            }
+            if (a.get(right) < a.get(middle)) {
+                swap(a, right, middle);
+            }
+            swap(a, left, middle);
+            int pivot = a.get(left);
+            int i = left;
+            int j = right + 1;
+            while (true) {
+                while (a.get(++i) < pivot && i < right) {
+                }
+                while (a.get(--j) > pivot) {
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(a, i, j);
+            }
+            swap(a, left, j);
+            // Recurse into the smaller side, loop on the larger one.
+            if (j - left < right - j) {
+                sort(a, left, j - 1, depth);
+                left = j + 1;
+            } else {
+                sort(a, j + 1, right, depth);
+                right = j - 1;
+            }
+        }
+        for (int i = left + 1; i <= right; i++) {
+            int value = a.get(i);
+            int j = i - 1;
+            while (j >= left && a.get(j) > value) {
+                a.put(j + 1, a.get(j));
+                j--;
+            }
+            a.put(j + 1, value);
+        }
+    }
+
+    static void heapSort(IntBuffer a, int from, int to) {
+        int length = to - from;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(a, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, from, from + end);
+            siftDown(a, from, 0, end);
+        }
+    }
+
+    private static void siftDown(IntBuffer a, int offset, int i, int length) {
+        int value = a.get(offset + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && a.get(offset + child + 1) > a.get(offset + child)) {
+                child++;
+            }
+            if (a.get(offset + child) <= value) {
+                break;
+            }
+            a.put(offset + i, a.get(offset + child));
+            i = child;
+        }
+        a.put(offset + i, value);
+    }
+
+    private static void swap(IntBuffer a, int i, int j) {
+        int tmp = a.get(i);
+        a.put(i, a.get(j));
+        a.put(j, tmp);
+    }
+
+    @Override
+    public LongBuffer sort(LongBuffer dataset) {
+        int from = dataset.position();
+        int to = dataset.limit();
+        if (to - from > 1) {
+            sort(dataset, from, to - 1, maxDepth(to - from));
+        }
+        return dataset;
+    }
+
+    // Bounds are inclusive.
+    private static void sort(LongBuffer a, int left, int right, int depth) {
+        while (right - left >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right + 1);
+                return;
+            }
+            int middle = (left + right) >>> 1;
+            // Median of three to a[left], then a Hoare partition around it.
+            if (a.get(middle) < a.get(left)) {
+                swap(a, middle, left);
+            }
+            if (a.get(right) < a.get(left)) {
+                swap(a, right, left);
+            }
+            if (a.get(right) < a.get(middle)) {
+                swap(a, right, middle);
+            }
+            swap(a, left, middle);
+            long pivot = a.get(left);
+            int i = left;
+            int j = right + 1;
+            while (true) {
+                while (a.get(++i) < pivot && i < right) {
+                }
+                while (a.get(--j) > pivot) {
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(a, i, j);
+            }
+            swap(a, left, j);
+            // Recurse into the smaller side, loop on the larger one.
+            if (j - left < right - j) {
+                sort(a, left, j - 1, depth);
+                left = j + 1;
+            } else {
+                sort(a, j + 1, right, depth);
+                right = j - 1;
+            }
+        }
+        for (int i = left + 1; i <= right; i++) {
+            long value = a.get(i);
+            int j = i - 1;
+            while (j >= left && a.get(j) > value) {
+                a.put(j + 1, a.get(j));
+                j--;
+            }
+            a.put(j + 1, value);
+        }
+    }
+
+    static void heapSort(LongBuffer a, int from, int to) {
+        int length = to - from;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(a, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, from, from + end);
+            siftDown(a, from, 0, end);
+        }
+    }
+
+    private static void siftDown(LongBuffer a, int offset, int i, int length) {
+        long value = a.get(offset + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && a.get(offset + child + 1) > a.get(offset + child)) {
+                child++;
+            }
+            if (a.get(offset + child) <= value) {
+                break;
+            }
+            a.put(offset + i, a.get(offset + child));
+            i = child;
+        }
+        a.put(offset + i, value);
+    }
+
+    private static void swap(LongBuffer a, int i, int j) {
+        long tmp = a.get(i);
+        a.put(i, a.get(j));
+        a.put(j, tmp);
+    }
+}
@@ -0,0 +1,190 @@
+package strategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+    Parallel merge sort on a ForkJoinPool. Ranges up to the sequential cutoff are sorted with the dual pivot quicksort,
+    larger ones are split in two, sorted in parallel and merged with a parallel merge, so both phases use every core.
+    Merges go back and forth between the input and one scratch buffer that is reused between calls;
+    an instance sorts one array at a time.
+    A pool the strategy creates itself is shut down by close(), a pool passed in belongs to the caller.
+ */
+public class ParallelSortStrategy implements SortStrategy, AutoCloseable {
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 8192;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int sequentialCutoff;
+    private int[] scratch = new int[0];
+
+    public ParallelSortStrategy() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    public ParallelSortStrategy(int parallelism, int sequentialCutoff) {
+        this(new ForkJoinPool(parallelism), true, sequentialCutoff);
+    }
+
+    public ParallelSortStrategy(ForkJoinPool pool, int sequentialCutoff) {
+        this(pool, false, sequentialCutoff);
+    }
+
+    private ParallelSortStrategy(ForkJoinPool pool, boolean ownsPool, int sequentialCutoff) {
+        if (sequentialCutoff < 2) {
+            throw new IllegalArgumentException("Sequential cutoff must be at least 2.");
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    public synchronized int[] sort(int[] dataset) {
+        int length = dataset.length;
+        if (length <= this.sequentialCutoff) {
+            QuickSortStrategy.sort(dataset, 0, length);
+            return dataset;
+        }
+        if (this.scratch.length < length) {
+            this.scratch = new int[length];
+        }
+        this.pool.invoke(new SortTask(dataset, this.scratch, 0, length, false));
+        return dataset;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        if (this.ownsPool) {
+            this.pool.shutdown();
+        }
+    }
+
+    /*
+        Sorts data[from, to). When intoScratch is set the sorted range ends up in scratch[from, to) instead,
+        which lets the parent merge from scratch back into data without an extra copy.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] data;
+        private final int[] scratch;
+        private final int from;
+        private final int to;
+        private final boolean intoScratch;
+
+        private SortTask(int[] data, int[] scratch, int from, int to, boolean intoScratch) {
+            this.data = data;
+            this.scratch = scratch;
+            this.from = from;
+            this.to = to;
+            this.intoScratch = intoScratch;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= sequentialCutoff) {
+                QuickSortStrategy.sort(this.data, this.from, this.to);
+                if (this.intoScratch) {
+                    System.arraycopy(this.data, this.from, this.scratch, this.from, this.to - this.from);
+                }
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            // Children leave their halves in the other array, the merge brings them to where this task needs them.
+            invokeAll(new SortTask(this.data, this.scratch, this.from, middle, !this.intoScratch),
+                    new SortTask(this.data, this.scratch, middle, this.to, !this.intoScratch));
+            int[] source = this.intoScratch ? this.data : this.scratch;
+            int[] target = this.intoScratch ? this.scratch : this.data;
+            new MergeTask(source, this.from, middle, middle, this.to, target, this.from).compute();
+        }
+    }
+
+    // Merges source[leftFrom, leftTo) and source[rightFrom, rightTo) into target starting at out.
+    private final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int[] target;
+        private final int out;
+
+        private MergeTask(int[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, int[] target, int out) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = this.leftTo - this.leftFrom;
+            int rightLength = this.rightTo - this.rightFrom;
+            if (leftLength + rightLength <= sequentialCutoff) {
+                mergeSequential();
+                return;
+            }
+            // Split the longer side in the middle and find where its middle value falls in the other side.
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (this.leftFrom + this.leftTo) >>> 1;
+                rightSplit = lowerBound(this.source, this.rightFrom, this.rightTo, this.source[leftSplit]);
+            } else {
+                rightSplit = (this.rightFrom + this.rightTo) >>> 1;
+                leftSplit = upperBound(this.source, this.leftFrom, this.leftTo, this.source[rightSplit]);
+            }
+            int outSplit = this.out + (leftSplit - this.leftFrom) + (rightSplit - this.rightFrom);
+            invokeAll(new MergeTask(this.source, this.leftFrom, leftSplit, this.rightFrom, rightSplit, this.target, this.out),
+                    new MergeTask(this.source, leftSplit, this.leftTo, rightSplit, this.rightTo, this.target, outSplit));
+        }
+
+        private void mergeSequential() {
+            int left = this.leftFrom;
+            int right = this.rightFrom;
+            int index = this.out;
+            while (left < this.leftTo && right < this.rightTo) {
+                this.target[index++] = this.source[right] < this.source[left] ? this.source[right++] : this.source[left++];
+            }
+            System.arraycopy(this.source, left, this.target, index, this.leftTo - left);
+            index += this.leftTo - left;
+            System.arraycopy(this.source, right, this.target, index, this.rightTo - right);
+        }
+    }
+
+    // First index in [from, to) whose value is >= key.
+    private static int lowerBound(int[] a, int from, int to, int key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (a[middle] < key) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    // First index in [from, to) whose value is > key.
+    private static int upperBound(int[] a, int from, int to, int key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (a[middle] <= key) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+}
@@ -0,0 +1,16 @@
+package strategy;
+
+// For callers that only need some of the order: the k-th element, or the k smallest / largest elements.
+public interface PartialSortStrategy {
+    // Puts the k-th smallest (0 based) value at dataset[k], smaller or equal ones before it, larger or equal after it.
+    int select(int[] dataset, int k);
+
+    // The k smallest values end up sorted in dataset[0, k), the rest follows in no particular order.
+    int[] partialSort(int[] dataset, int k);
+
+    // The k smallest values in ascending order, dataset is left untouched.
+    int[] smallest(int[] dataset, int k);
+
+    // The k largest values in descending order, dataset is left untouched.
+    int[] largest(int[] dataset, int k);
+}
@@ -1,9 +1,105 @@
 package strategy;
 
+/*
+    In place dual pivot quicksort (Yaroslavskiy). Ranges below INSERTION_THRESHOLD are finished with insertion sort,
+    and a range that recurses too deep falls back to heapsort, so the worst case stays O(n log n).
+ */
 public class QuickSortStrategy implements SortStrategy {
+    static final int INSERTION_THRESHOLD = 27;
+
     @Override
     public int[] sort(int[] dataset) {
-        System.out.println("Sorting using quick sort");
+        sort(dataset, 0, dataset.length);
         return dataset;
     }
+
+    // Sorts dataset[from, to).
+    static void sort(int[] dataset, int from, int to) {
+        int length = to - from;
+        if (length > 1) {
+            sort(dataset, from, to - 1, 2 * (32 - Integer.numberOfLeadingZeros(length)));
+        }
+    }
+
+    // Bounds are inclusive here.
+    private static void sort(int[] a, int left, int right, int depth) {
+        while (right - left >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right + 1);
+                return;
+            }
+            int third = (right - left) / 3;
+            int m1 = left + third;
+            int m2 = right - third;
+            if (a[m1] > a[m2]) {
+                swap(a, m1, m2);
+            }
+            swap(a, left, m1);
+            swap(a, right, m2);
+            int pivot1 = a[left];
+            int pivot2 = a[right];
+
+            int less = left + 1;
+            int great = right - 1;
+            for (int k = less; k <= great; k++) {
+                if (a[k] < pivot1) {
+                    swap(a, k, less++);
+                } else if (a[k] > pivot2) {
+                    while (k < great && a[great] > pivot2) {
+                        great--;
+                    }
+                    swap(a, k, great--);
+                    if (a[k] < pivot1) {
+                        swap(a, k, less++);
+                    }
+                }
+            }
+            swap(a, left, less - 1);
+            swap(a, right, great + 1);
+
+            sort(a, left, less - 2, depth);
+            if (pivot1 < pivot2) {
+                sort(a, less, great, depth);
+            }
+            // Loop on the right part instead of recursing.
+            left = great + 2;
+        }
+        InsertionSortStrategy.sort(a, left, right + 1);
+    }
+
+    static void heapSort(int[] a, int from, int to) {
+        int length = to - from;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(a, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, from, from + end);
+            siftDown(a, from, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] a, int offset, int i, int length) {
+        int value = a[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && a[offset + child + 1] > a[offset + child]) {
+                child++;
+            }
+            if (a[offset + child] <= value) {
+                break;
+            }
+            a[offset + i] = a[offset + child];
+            i = child;
+        }
+        a[offset + i] = value;
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
 }
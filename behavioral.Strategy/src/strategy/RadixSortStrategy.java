@@ -0,0 +1,71 @@
+package strategy;
+
+import java.util.Arrays;
+
+/*
+    LSD radix sort, one byte per pass. Linear in the input size, so it wins on large int arrays.
+    The scratch buffer is kept between calls and only grows, which makes an instance cheap to reuse
+    but not safe to share between threads.
+ */
+public class RadixSortStrategy implements SortStrategy {
+    private static final int RADIX = 256;
+    private static final int PASSES = 4;
+
+    private final int[][] counts = new int[PASSES][RADIX];
+    private int[] scratch = new int[0];
+
+    @Override
+    public int[] sort(int[] dataset) {
+        int length = dataset.length;
+        if (length < 2) {
+            return dataset;
+        }
+        if (this.scratch.length < length) {
+            this.scratch = new int[length];
+        }
+        for (int[] passCounts : this.counts) {
+            Arrays.fill(passCounts, 0);
+        }
+        // One read of the input builds the histograms of all four passes.
+        for (int value : dataset) {
+            this.counts[0][value & 0xFF]++;
+            this.counts[1][(value >>> 8) & 0xFF]++;
+            this.counts[2][(value >>> 16) & 0xFF]++;
+            this.counts[3][((value >>> 24) ^ 0x80) & 0xFF]++;
+        }
+
+        int[] from = dataset;
+        int[] to = this.scratch;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] passCounts = this.counts[pass];
+            int shift = pass * 8;
+            // All values share this byte, the pass would not move anything.
+            if (passCounts[digit(from[0], pass, shift)] == length) {
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int count = passCounts[bucket];
+                passCounts[bucket] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int value = from[i];
+                to[passCounts[digit(value, pass, shift)]++] = value;
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != dataset) {
+            System.arraycopy(from, 0, dataset, 0, length);
+        }
+        return dataset;
+    }
+
+    // The sign bit is flipped on the last pass so negative numbers come first.
+    private static int digit(int value, int pass, int shift) {
+        int digit = (value >>> shift) & 0xFF;
+        return pass == PASSES - 1 ? digit ^ 0x80 : digit;
+    }
+}
@@ -0,0 +1,92 @@
+package strategy;
+
+/*
+    Natural merge sort: finds the runs that are already in order (reversing descending ones), stretches short
+    runs to MIN_RUN with insertion sort and merges neighbours until one run is left.
+    Close to linear on nearly sorted input. Keeps its scratch buffer between calls, so not thread safe.
+ */
+public class RunMergeSortStrategy implements SortStrategy {
+    private static final int MIN_RUN = 32;
+
+    private int[] scratch = new int[0];
+    private int[] runStarts = new int[0];
+
+    @Override
+    public int[] sort(int[] dataset) {
+        int length = dataset.length;
+        if (length < 2) {
+            return dataset;
+        }
+        if (this.scratch.length < length) {
+            this.scratch = new int[length];
+            this.runStarts = new int[length / MIN_RUN + 2];
+        }
+        int runs = 0;
+        int start = 0;
+        while (start < length) {
+            int end = runEnd(dataset, start, length);
+            if (end - start < MIN_RUN) {
+                int forcedEnd = Math.min(length, start + MIN_RUN);
+                InsertionSortStrategy.sort(dataset, start, forcedEnd);
+                end = forcedEnd;
+            }
+            this.runStarts[runs++] = start;
+            start = end;
+        }
+        this.runStarts[runs] = length;
+
+        // Merge pairs of neighbouring runs, halving the run count each round.
+        while (runs > 1) {
+            int merged = 0;
+            for (int run = 0; run < runs; run += 2) {
+                int from = this.runStarts[run];
+                if (run + 1 < runs) {
+                    merge(dataset, from, this.runStarts[run + 1], this.runStarts[run + 2]);
+                }
+                this.runStarts[merged++] = from;
+            }
+            this.runStarts[merged] = length;
+            runs = merged;
+        }
+        return dataset;
+    }
+
+    // End (exclusive) of the run starting at start, a strictly descending run is reversed in place.
+    private static int runEnd(int[] a, int start, int length) {
+        int end = start + 1;
+        if (end == length) {
+            return end;
+        }
+        if (a[end] < a[start]) {
+            while (end + 1 < length && a[end + 1] < a[end]) {
+                end++;
+            }
+            for (int i = start, j = end; i < j; i++, j--) {
+                int tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+        } else {
+            while (end + 1 < length && a[end + 1] >= a[end]) {
+                end++;
+            }
+        }
+        return end + 1;
+    }
+
+    private void merge(int[] a, int from, int middle, int to) {
+        // Already in order, nothing to do.
+        if (a[middle - 1] <= a[middle]) {
+            return;
+        }
+        int leftLength = middle - from;
+        System.arraycopy(a, from, this.scratch, 0, leftLength);
+        int left = 0;
+        int right = middle;
+        int out = from;
+        while (left < leftLength && right < to) {
+            a[out++] = a[right] < this.scratch[left] ? a[right++] : this.scratch[left++];
+        }
+        System.arraycopy(this.scratch, left, a, out, leftLength - left);
+    }
+}
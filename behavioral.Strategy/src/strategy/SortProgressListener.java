@@ -0,0 +1,9 @@
+package strategy;
+
+public interface SortProgressListener {
+    SortProgressListener NONE = (phase, done, total, elementsPerSecond) -> {
+    };
+
+    // phase is "runs" while sorted runs are written and "merge" while they are merged.
+    void onProgress(String phase, long done, long total, double elementsPerSecond);
+}
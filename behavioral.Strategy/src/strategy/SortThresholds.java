@@ -0,0 +1,32 @@
+package strategy;
+
+// Size limits used by AdaptiveSortStrategy, either the defaults or measured on this machine by calibrate().
+public class SortThresholds {
+    public static final SortThresholds DEFAULT = new SortThresholds(40, 1024);
+
+    private final int insertionMaxLength;
+    private final int radixMinLength;
+
+    /*
+        insertionMaxLength - arrays up to this length use insertion sort.
+        radixMinLength     - arrays needing all four radix passes use radix sort from this length on,
+                             arrays with a narrower value range already from a proportionally smaller length.
+     */
+    public SortThresholds(int insertionMaxLength, int radixMinLength) {
+        this.insertionMaxLength = insertionMaxLength;
+        this.radixMinLength = radixMinLength;
+    }
+
+    public int getInsertionMaxLength() {
+        return insertionMaxLength;
+    }
+
+    public int getRadixMinLength() {
+        return radixMinLength;
+    }
+
+    @Override
+    public String toString() {
+        return "SortThresholds{insertionMaxLength=" + insertionMaxLength + ", radixMinLength=" + radixMinLength + "}";
+    }
+}
@@ -0,0 +1,37 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AdaptiveSortStrategyTest {
+    // Low thresholds so that arrays shorter than the 64 value sample reach the duplicate check.
+    private final AdaptiveSortStrategy strategy = new AdaptiveSortStrategy(new SortThresholds(1, 100));
+
+    @Test
+    void shortDistinctArrayIsNotTakenForDuplicates() {
+        int[] dataset = new Random(42).ints(40).toArray();
+        assertSame(QuickSortStrategy.class, this.strategy.choose(dataset).getClass());
+    }
+
+    @Test
+    void shortArrayOfFewValuesGoesToRadixSort() {
+        int[] dataset = new Random(42).ints(40, 0, 3).map(value -> value << 24).toArray();
+        assertSame(RadixSortStrategy.class, this.strategy.choose(dataset).getClass());
+    }
+
+    @Test
+    void sortsEveryLengthAroundTheSampleSize() {
+        Random random = new Random(42);
+        for (int length = 0; length <= 200; length++) {
+            int[] dataset = random.ints(length, -50, 50).toArray();
+            int[] expected = dataset.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, this.strategy.sort(dataset), "length " + length);
+        }
+    }
+}
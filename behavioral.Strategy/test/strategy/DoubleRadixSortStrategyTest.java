@@ -0,0 +1,67 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/*
+    DoubleRadixSortStrategy must give exactly Arrays.sort(double[]): -0.0 before 0.0, NaN last.
+    assertArrayEquals compares doubles by their bits, so 0.0 and -0.0 are told apart.
+ */
+class DoubleRadixSortStrategyTest {
+    private static final int[] SIZES = {0, 1, 2, 63, 64, 65, 1_000, 100_000};
+    private static final double[] SPECIAL_VALUES = {
+            Double.NaN, Double.longBitsToDouble(0xFFF8_0000_0000_0001L), -0.0, 0.0,
+            Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MIN_VALUE,
+            Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_NORMAL, -1.0, 1.0
+    };
+
+    static Stream<Arguments> inputs() {
+        List<Arguments> inputs = new ArrayList<>();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            double[] special = random.ints(size, 0, SPECIAL_VALUES.length)
+                    .mapToDouble(i -> SPECIAL_VALUES[i])
+                    .toArray();
+            double[] signedZeros = random.ints(size, 0, 2).mapToDouble(i -> i == 0 ? -0.0 : 0.0).toArray();
+            double[] mixedSigns = random.doubles(size, -1e6, 1e6).toArray();
+            double[] anyBits = random.longs(size).mapToDouble(Double::longBitsToDouble).toArray();
+            inputs.add(Arguments.of("special values " + size, special));
+            inputs.add(Arguments.of("signed zeros " + size, signedZeros));
+            inputs.add(Arguments.of("mixed signs " + size, mixedSigns));
+            inputs.add(Arguments.of("any bit pattern " + size, anyBits));
+        }
+        return inputs.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    void sortsLikeArraysSort(String input, double[] dataset) {
+        double[] expected = dataset.clone();
+        Arrays.sort(expected);
+        double[] actual = dataset.clone();
+
+        new DoubleRadixSortStrategy().sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void ordersTheSpecialValues() {
+        double[] dataset = {Double.NaN, 0.0, Double.POSITIVE_INFINITY, -0.0, Double.NEGATIVE_INFINITY, -1.0, 1.0};
+
+        new DoubleRadixSortStrategy().sort(dataset);
+
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.0, Double.POSITIVE_INFINITY,
+                Double.NaN}, dataset);
+    }
+}
@@ -0,0 +1,139 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExternalSortStrategyTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void sortsIntsIntoAnotherFileWithSeveralRuns() throws IOException {
+        int[] values = new Random(42).ints(10_000).toArray();
+        Path input = writeInts(this.directory.resolve("in.bin"), values);
+        Path output = this.directory.resolve("out.bin");
+        new ExternalSortStrategy(ExternalSortStrategy.Width.INT, 1000).sort(input, output);
+        assertArrayEquals(sorted(values), readInts(output));
+        assertArrayEquals(values, readInts(input));
+    }
+
+    @Test
+    void sortsASingleRunInPlace() throws IOException {
+        int[] values = new Random(42).ints(1000).toArray();
+        Path file = writeInts(this.directory.resolve("data.bin"), values);
+        new ExternalSortStrategy(ExternalSortStrategy.Width.INT, 1000).sort(file, file);
+        assertArrayEquals(sorted(values), readInts(file));
+    }
+
+    @Test
+    void sortsSeveralRunsInPlace() throws IOException {
+        int[] values = new Random(42).ints(10_000).toArray();
+        Path file = writeInts(this.directory.resolve("data.bin"), values);
+        new ExternalSortStrategy(ExternalSortStrategy.Width.INT, 999).sort(file, file);
+        assertArrayEquals(sorted(values), readInts(file));
+    }
+
+    @Test
+    void sortsLongs() throws IOException {
+        long[] values = new Random(42).longs(5000).toArray();
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Long.BYTES);
+        bytes.asLongBuffer().put(values);
+        Path file = Files.write(this.directory.resolve("data.bin"), bytes.array());
+        new ExternalSortStrategy(ExternalSortStrategy.Width.LONG, 700).sort(file, file);
+        long[] result = new long[values.length];
+        ByteBuffer.wrap(Files.readAllBytes(file)).asLongBuffer().get(result);
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void emptyInputGivesEmptyOutputAndLeavesNoTempFiles() throws IOException {
+        Path input = writeInts(this.directory.resolve("in.bin"), new int[0]);
+        Path output = this.directory.resolve("out.bin");
+        new ExternalSortStrategy(ExternalSortStrategy.Width.INT, 10).sort(input, output);
+        assertEquals(0, Files.size(output));
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void runsAreWrittenNextToTheOutput() throws IOException {
+        int[] values = new Random(42).ints(10_000).toArray();
+        Path input = writeInts(this.directory.resolve("in.bin"), values);
+        Path outputDirectory = Files.createDirectory(this.directory.resolve("out"));
+        Path output = outputDirectory.resolve("out.bin");
+        List<Long> runFiles = new ArrayList<>();
+        SortProgressListener listener = (phase, done, total, rate) -> {
+            if (phase.equals("runs")) {
+                runFiles.add(countRunFiles(outputDirectory));
+            }
+        };
+        new ExternalSortStrategy(ExternalSortStrategy.Width.INT, 1000, new RadixSortStrategy(), listener)
+                .sort(input, output);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), runFiles);
+        assertEquals(0, countRunFiles(outputDirectory));
+        assertArrayEquals(sorted(values), readInts(output));
+    }
+
+    @Test
+    void runsGoToTheGivenRunDirectory() throws IOException {
+        int[] values = new Random(42).ints(10_000).toArray();
+        Path file = writeInts(this.directory.resolve("data.bin"), values);
+        Path runDirectory = Files.createDirectory(this.directory.resolve("runs"));
+        List<Long> runFiles = new ArrayList<>();
+        SortProgressListener listener = (phase, done, total, rate) -> {
+            if (phase.equals("runs")) {
+                runFiles.add(countRunFiles(runDirectory));
+                assertEquals(0, countRunFiles(this.directory));
+            }
+        };
+        new ExternalSortStrategy(ExternalSortStrategy.Width.INT, 2500, new RadixSortStrategy(), listener, runDirectory)
+                .sort(file, file);
+        assertEquals(List.of(1L, 2L, 3L, 4L), runFiles);
+        assertEquals(0, countRunFiles(runDirectory));
+        assertArrayEquals(sorted(values), readInts(file));
+    }
+
+    private static long countRunFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("sort-run-")).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int[] sorted(int[] values) {
+        int[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static Path writeInts(Path file, int[] values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+        bytes.asIntBuffer().put(values);
+        return Files.write(file, bytes.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        int[] values = new int[bytes.remaining() / Integer.BYTES];
+        bytes.asIntBuffer().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,103 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// Every in-place int sort must agree with Arrays.sort.
+class IntSortStrategyTest {
+    private static final int[] SIZES = {0, 1, 2, 3, 10, 26, 27, 28, 46, 47, 48, 100, 1_000, 10_000, 100_000};
+
+    static Stream<SortStrategy> strategies() {
+        return Stream.of(new QuickSortStrategy(), new InsertionSortStrategy(), new RadixSortStrategy());
+    }
+
+    static Stream<Arguments> inputs() {
+        List<Arguments> inputs = new ArrayList<>();
+        Random random = new Random(42);
+        for (SortStrategy strategy : strategies().toArray(SortStrategy[]::new)) {
+            for (int size : SIZES) {
+                // Insertion sort is quadratic, it is only meant for tiny arrays.
+                if (strategy instanceof InsertionSortStrategy && size > 10_000) {
+                    continue;
+                }
+                String name = strategy.getClass().getSimpleName() + ", ";
+                int[] randomValues = random.ints(size).toArray();
+                int[] sorted = randomValues.clone();
+                Arrays.sort(sorted);
+                int[] reversed = IntStream.range(0, size).map(i -> sorted[size - 1 - i]).toArray();
+                int[] allEqual = new int[size];
+                Arrays.fill(allEqual, -7);
+                int[] extremes = random.ints(size, 0, 5).map(i -> new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}[i]).toArray();
+                int[] fewDistinct = random.ints(size, -3, 3).toArray();
+                int[] negatives = random.ints(size, Integer.MIN_VALUE, 0).toArray();
+                inputs.add(Arguments.of(strategy, name + "random " + size, randomValues));
+                inputs.add(Arguments.of(strategy, name + "sorted " + size, sorted));
+                inputs.add(Arguments.of(strategy, name + "reverse sorted " + size, reversed));
+                inputs.add(Arguments.of(strategy, name + "all equal " + size, allEqual));
+                inputs.add(Arguments.of(strategy, name + "MIN_VALUE/MAX_VALUE " + size, extremes));
+                inputs.add(Arguments.of(strategy, name + "few distinct " + size, fewDistinct));
+                inputs.add(Arguments.of(strategy, name + "negative " + size, negatives));
+            }
+        }
+        return inputs.stream();
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("inputs")
+    void sortsLikeArraysSort(SortStrategy strategy, String input, int[] dataset) {
+        int[] expected = dataset.clone();
+        Arrays.sort(expected);
+        int[] actual = dataset.clone();
+
+        int[] returned = strategy.sort(actual);
+
+        assertSame(actual, returned, "sorts in place");
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void quickSortRangeLeavesTheRestAlone() {
+        int[] dataset = new Random(7).ints(1_000).toArray();
+        int[] expected = dataset.clone();
+        Arrays.sort(expected, 100, 900);
+
+        QuickSortStrategy.sort(dataset, 100, 900);
+
+        assertArrayEquals(expected, dataset);
+    }
+
+    @Test
+    void insertionSortRangeLeavesTheRestAlone() {
+        int[] dataset = new Random(7).ints(60).toArray();
+        int[] expected = dataset.clone();
+        Arrays.sort(expected, 5, 50);
+
+        InsertionSortStrategy.sort(dataset, 5, 50);
+
+        assertArrayEquals(expected, dataset);
+    }
+
+    // The fallback quicksort takes when it recurses too deep.
+    @Test
+    void heapSortMatchesArraysSort() {
+        int[] dataset = new Random(7).ints(5_000, -50, 50).toArray();
+        int[] expected = dataset.clone();
+        Arrays.sort(expected, 10, 4_990);
+
+        QuickSortStrategy.heapSort(dataset, 10, 4_990);
+
+        assertArrayEquals(expected, dataset);
+    }
+}
@@ -0,0 +1,51 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntroSelectStrategyTest {
+    private final IntroSelectStrategy strategy = new IntroSelectStrategy();
+
+    @Test
+    void topKMatchesAFullSort() {
+        Random random = new Random(42);
+        for (int length : new int[]{1, 2, 15, 16, 17, 100, 10_000}) {
+            int[][] inputs = {
+                    random.ints(length).toArray(),
+                    random.ints(length, 0, 4).toArray(),
+                    new int[length],
+            };
+            for (int[] dataset : inputs) {
+                int[] original = dataset.clone();
+                int[] sorted = dataset.clone();
+                Arrays.sort(sorted);
+                for (int k : new int[]{0, 1, Math.min(7, length), length / 3, length / 2, length - 1, length}) {
+                    assertArrayEquals(Arrays.copyOf(sorted, k), this.strategy.smallest(dataset, k));
+                    int[] expectedLargest = new int[k];
+                    for (int i = 0; i < k; i++) {
+                        expectedLargest[i] = sorted[length - 1 - i];
+                    }
+                    assertArrayEquals(expectedLargest, this.strategy.largest(dataset, k));
+                    assertArrayEquals(original, dataset, "input must stay untouched");
+                }
+            }
+        }
+    }
+
+    @Test
+    void selectAndPartialSortMatchAFullSort() {
+        int[] dataset = new Random(42).ints(10_000, -100, 100).toArray();
+        int[] sorted = dataset.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[]{0, 1, 5000, 9999}) {
+            assertEquals(sorted[k], this.strategy.select(dataset.clone(), k));
+        }
+        int[] partial = this.strategy.partialSort(dataset.clone(), 100);
+        assertArrayEquals(Arrays.copyOf(sorted, 100), Arrays.copyOf(partial, 100));
+    }
+}
@@ -0,0 +1,55 @@
+package strategy;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// KeyIndexSortStrategy must match the stable Arrays.sort with a key comparator, equal keys in input order.
+class KeyIndexSortStrategyTest {
+    record Item(long key, int position) {
+    }
+
+    @ParameterizedTest(name = "{0} items")
+    @ValueSource(ints = {0, 1, 2, 63, 64, 65, 1_000, 100_000})
+    void sortsStablyByKey(int size) {
+        Random random = new Random(size);
+        long[] keyValues = {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE, 0x0100_0000_0000_0000L, -0x0100_0000_0000_0000L};
+        // Few distinct keys, so most items share theirs with many others.
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Item(keyValues[random.nextInt(keyValues.length)], i);
+        }
+        Item[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingLong(Item::key));
+
+        Item[] returned = new KeyIndexSortStrategy().sort(items, Item::key);
+
+        assertSame(items, returned, "sorts in place");
+        assertArrayEquals(expected, items);
+    }
+
+    @ParameterizedTest(name = "{0} items")
+    @ValueSource(ints = {10, 1_000})
+    void reusesItsBuffersAcrossCalls(int size) {
+        KeyIndexSortStrategy strategy = new KeyIndexSortStrategy();
+        Random random = new Random(size);
+        for (int round = 0; round < 3; round++) {
+            Item[] items = new Item[size - round];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = new Item(random.nextInt(20) - 10, i);
+            }
+            Item[] expected = items.clone();
+            Arrays.sort(expected, Comparator.comparingLong(Item::key));
+
+            strategy.sort(items, Item::key);
+
+            assertArrayEquals(expected, items);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package strategy;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// LongRadixSortStrategy must agree with Arrays.sort, on both sides of its insertion sort cut-off.
+class LongRadixSortStrategyTest {
+    private static final int[] SIZES = {0, 1, 2, 63, 64, 65, 1_000, 100_000};
+
+    static Stream<Arguments> inputs() {
+        List<Arguments> inputs = new ArrayList<>();
+        Random random = new Random(42);
+        long[] extremeValues = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        for (int size : SIZES) {
+            long[] extremes = random.ints(size, 0, extremeValues.length).mapToLong(i -> extremeValues[i]).toArray();
+            // Only the top byte differs: seven passes are skipped and the sign flip of the last one does all the work.
+            long[] topByteOnly = random.longs(size).map(value -> (value & 0xFF00_0000_0000_0000L) | 0x42).toArray();
+            // The top byte is the same everywhere, so the pass that flips the sign bit is the one skipped.
+            long[] negativeTopByte = random.longs(size).map(value -> value | 0xFF00_0000_0000_0000L).toArray();
+            inputs.add(Arguments.of("random " + size, random.longs(size).toArray()));
+            inputs.add(Arguments.of("MIN_VALUE/MAX_VALUE " + size, extremes));
+            inputs.add(Arguments.of("top byte only " + size, topByteOnly));
+            inputs.add(Arguments.of("negative top byte " + size, negativeTopByte));
+            inputs.add(Arguments.of("few distinct " + size, random.longs(size, -3, 3).toArray()));
+            inputs.add(Arguments.of("int range " + size, random.ints(size).asLongStream().toArray()));
+        }
+        return inputs.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    void sortsLikeArraysSort(String input, long[] dataset) {
+        long[] expected = dataset.clone();
+        Arrays.sort(expected);
+        long[] actual = dataset.clone();
+
+        long[] returned = new LongRadixSortStrategy().sort(actual);
+
+        assertSame(actual, returned, "sorts in place");
+        assertArrayEquals(expected, actual);
+    }
+}
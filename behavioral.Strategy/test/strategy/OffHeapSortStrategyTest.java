@@ -0,0 +1,147 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/*
+    The int and long paths get the same cases. Each column is a view of a slice in the middle of a direct buffer,
+    with position and limit inside the view, so every index the sort uses is offset twice. Values before position,
+    after limit and outside the slice must not move.
+ */
+class OffHeapSortStrategyTest {
+    private static final int[] SIZES = {0, 1, 2, 23, 24, 25, 1_000, 100_000};
+    private static final int MARGIN = 13;
+    private static final byte GUARD = (byte) 0xA5;
+
+    static Stream<Arguments> inputs() {
+        List<Arguments> inputs = new ArrayList<>();
+        Random random = new Random(42);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (int size : SIZES) {
+                String name = order + ", ";
+                long[] sorted = random.longs(size).sorted().toArray();
+                inputs.add(Arguments.of(name + "random " + size, order, random.longs(size).toArray()));
+                inputs.add(Arguments.of(name + "sorted " + size, order, sorted));
+                inputs.add(Arguments.of(name + "reverse sorted " + size, order,
+                        IntStream.range(0, size).mapToLong(i -> sorted[size - 1 - i]).toArray()));
+                inputs.add(Arguments.of(name + "all equal " + size, order, new long[size]));
+                inputs.add(Arguments.of(name + "two values " + size, order, random.longs(size, 0, 2).toArray()));
+                inputs.add(Arguments.of(name + "few distinct " + size, order, random.longs(size, -3, 3).toArray()));
+                inputs.add(Arguments.of(name + "organ pipe " + size, order,
+                        IntStream.range(0, size).mapToLong(i -> Math.min(i, size - i)).toArray()));
+            }
+        }
+        return inputs.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    void sortsAnIntColumnBetweenPositionAndLimit(String input, ByteOrder order, long[] values) {
+        int[] dataset = Arrays.stream(values).mapToInt(value -> (int) (value ^ (value >>> 32))).toArray();
+        int viewLength = dataset.length + 2 * MARGIN;
+        ByteBuffer bytes = guardedSlice(viewLength * Integer.BYTES);
+        IntBuffer column = bytes.slice().order(order).asIntBuffer();
+        int[] expected = IntStream.range(0, viewLength).map(OffHeapSortStrategyTest::surrounding).toArray();
+        System.arraycopy(dataset, 0, expected, MARGIN, dataset.length);
+        column.put(expected);
+        Arrays.sort(expected, MARGIN, MARGIN + dataset.length);
+        column.limit(MARGIN + dataset.length).position(MARGIN);
+
+        IntBuffer returned = new OffHeapSortStrategy().sort(column);
+
+        assertSame(column, returned);
+        assertEquals(MARGIN, column.position(), "position");
+        assertEquals(MARGIN + dataset.length, column.limit(), "limit");
+        int[] actual = new int[viewLength];
+        column.clear().get(actual);
+        assertArrayEquals(expected, actual);
+        assertGuardsIntact(bytes);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    void sortsALongColumnBetweenPositionAndLimit(String input, ByteOrder order, long[] dataset) {
+        int viewLength = dataset.length + 2 * MARGIN;
+        ByteBuffer bytes = guardedSlice(viewLength * Long.BYTES);
+        LongBuffer column = bytes.slice().order(order).asLongBuffer();
+        long[] expected = IntStream.range(0, viewLength).mapToLong(OffHeapSortStrategyTest::surrounding).toArray();
+        System.arraycopy(dataset, 0, expected, MARGIN, dataset.length);
+        column.put(expected);
+        Arrays.sort(expected, MARGIN, MARGIN + dataset.length);
+        column.limit(MARGIN + dataset.length).position(MARGIN);
+
+        LongBuffer returned = new OffHeapSortStrategy().sort(column);
+
+        assertSame(column, returned);
+        assertEquals(MARGIN, column.position(), "position");
+        assertEquals(MARGIN + dataset.length, column.limit(), "limit");
+        long[] actual = new long[viewLength];
+        column.clear().get(actual);
+        assertArrayEquals(expected, actual);
+        assertGuardsIntact(bytes);
+    }
+
+    // The fallback the sort takes when it recurses too deep, on a range of a slice.
+    @Test
+    void heapSortMatchesArraysSort() {
+        Random random = new Random(7);
+        int[] ints = random.ints(5_000, -50, 50).toArray();
+        long[] longs = random.longs(5_000, -50, 50).toArray();
+        IntBuffer intColumn = guardedSlice(ints.length * Integer.BYTES).slice().asIntBuffer().put(ints);
+        LongBuffer longColumn = guardedSlice(longs.length * Long.BYTES).slice().asLongBuffer().put(longs);
+        Arrays.sort(ints, 10, 4_990);
+        Arrays.sort(longs, 10, 4_990);
+
+        OffHeapSortStrategy.heapSort(intColumn, 10, 4_990);
+        OffHeapSortStrategy.heapSort(longColumn, 10, 4_990);
+
+        int[] sortedInts = new int[ints.length];
+        long[] sortedLongs = new long[longs.length];
+        intColumn.clear().get(sortedInts);
+        longColumn.clear().get(sortedLongs);
+        assertArrayEquals(ints, sortedInts);
+        assertArrayEquals(longs, sortedLongs);
+    }
+
+    // Distinct values around the range, any of them pulled into the sort shows up as a changed array.
+    private static int surrounding(int i) {
+        return -1_000_000 - i;
+    }
+
+    // A slice of length bytes in the middle of a direct buffer, the bytes on either side hold GUARD.
+    private static ByteBuffer guardedSlice(int length) {
+        ByteBuffer direct = ByteBuffer.allocateDirect(length + 2 * Long.BYTES);
+        while (direct.hasRemaining()) {
+            direct.put(GUARD);
+        }
+        return direct.position(Long.BYTES).limit(Long.BYTES + length);
+    }
+
+    private static void assertGuardsIntact(ByteBuffer slice) {
+        int start = slice.position();
+        int end = slice.limit();
+        slice.clear();
+        for (int i = 0; i < slice.capacity(); i++) {
+            if (i < start || i >= end) {
+                assertEquals(GUARD, slice.get(i), "byte " + i + " outside the slice");
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelSortStrategyTest {
+    @Test
+    void sortsAcrossSeveralTasks() {
+        int[] dataset = new Random(42).ints(100_000).toArray();
+        int[] expected = dataset.clone();
+        Arrays.sort(expected);
+        try (ParallelSortStrategy strategy = new ParallelSortStrategy(2, 1000)) {
+            assertArrayEquals(expected, strategy.sort(dataset));
+        }
+    }
+
+    @Test
+    void closeShutsDownOnlyItsOwnPool() throws ReflectiveOperationException {
+        ParallelSortStrategy owning = new ParallelSortStrategy(2, 1000);
+        ForkJoinPool ownPool = poolOf(owning);
+        owning.close();
+        assertTrue(ownPool.isShutdown());
+
+        ForkJoinPool callerPool = new ForkJoinPool(2);
+        try {
+            new ParallelSortStrategy(callerPool, 1000).close();
+            assertFalse(callerPool.isShutdown());
+        } finally {
+            callerPool.shutdown();
+        }
+    }
+
+    private static ForkJoinPool poolOf(ParallelSortStrategy strategy) throws ReflectiveOperationException {
+        Field pool = ParallelSortStrategy.class.getDeclaredField("pool");
+        pool.setAccessible(true);
+        return (ForkJoinPool) pool.get(strategy);
+    }
+}
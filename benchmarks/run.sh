@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Builds the benchmarks module and runs its JMH suites.
+# Results land in benchmarks/results/<commit>/<filter>.json in the JMH JSON format, compare two commits with any
+# JMH result viewer or diff tool.
+#
+#   benchmarks/run.sh                       every suite, iterations as annotated on each suite
+#   benchmarks/run.sh Sorter -wi 1 -i 3     benchmarks matching the regexp "Sorter", extra args go to JMH
+#   THREADS="1 2 4 8" benchmarks/run.sh TeaMakerContended
+#                                           one run per thread count (JMH -t), results in <filter>-t<n>.json
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+filter=""
+if [ $# -gt 0 ] && [[ "$1" != -* ]]; then
+  filter=$1
+  shift
+fi
+commit=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+results="benchmarks/results/$commit"
+mkdir -p "$results"
+# The filter is a regexp, keep only file name safe characters of it for the result file.
+name=$(printf '%s' "${filter:-all}" | tr -c 'A-Za-z0-9._-' '_')
+
+mvn -B -q -pl benchmarks -am package -DskipTests
+if [ -z "${THREADS:-}" ]; then
+  java -jar benchmarks/target/benchmarks.jar ${filter:+"$filter"} -rf json -rff "$results/$name.json" "$@"
+  exit
+fi
+for threads in $THREADS; do
+  java -jar benchmarks/target/benchmarks.jar ${filter:+"$filter"} -t "$threads" -rf json \
+    -rff "$results/$name-t$threads.json" "$@"
+done
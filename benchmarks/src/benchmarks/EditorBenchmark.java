@@ -0,0 +1,54 @@
+package benchmarks;
+
+import memento.Editor;
+import memento.EditorMemento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EditorBenchmark {
+    private Editor typed;
+
+    @Setup
+    public void setUp() {
+        typed = new Editor();
+        for (int i = 0; i < 100; i++) {
+            typed.type("This is sentence number " + i + ".");
+        }
+    }
+
+    @Benchmark
+    public Editor typeTenSentences() {
+        Editor editor = new Editor();
+        for (int i = 0; i < 10; i++) {
+            editor.type("This is a sentence.");
+        }
+        return editor;
+    }
+
+    @Benchmark
+    public EditorMemento save() {
+        return typed.save();
+    }
+
+    @Benchmark
+    public Editor saveAndRestore() {
+        typed.restore(typed.save());
+        return typed;
+    }
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import observer.EmploymentAgency;
+import observer.JobPost;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmploymentAgencyBenchmark {
+    @Param({"1", "10", "100"})
+    private int observers;
+
+    private EmploymentAgency agency;
+    private JobPost jobPost;
+    private long notified;
+
+    @Setup
+    public void setUp() {
+        jobPost = new JobPost("Software Engineer");
+        agency = new EmploymentAgency();
+        // JobSeeker prints, so the agency is measured with observers that only count.
+        for (int i = 0; i < observers; i++) {
+            agency.attach(job -> notified++);
+        }
+    }
+
+    @Benchmark
+    public long notifyObservers() {
+        agency.notify(jobPost);
+        return notified;
+    }
+}
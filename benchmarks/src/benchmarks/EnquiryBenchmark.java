@@ -0,0 +1,74 @@
+package benchmarks;
+
+import api.EnquiryAPI;
+import classifier.EnquiryClassifier;
+import factory.EnquiryHandlerFactory;
+import handler.EnquiryHandler;
+import handler.KeywordEnquiryHandler;
+import handler.UnknownEnquiryHandler;
+import models.EnquiryType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnquiryBenchmark {
+    private static final String ACADEMIC = "I want to enroll in NLP Course.";
+    private static final String SUBSCRIPTION = "When is the Expiry date of my plan, can I extend it before it ends?";
+    private static final String UNKNOWN = "Hello, I would like to know more about the mentors, the batch sizes "
+            + "and whether the classes are recorded so I can watch them again later in the week.";
+
+    private EnquiryClassifier classifier;
+    private EnquiryHandler handler;
+    private EnquiryAPI api;
+
+    @Setup
+    public void setUp() {
+        // The handlers print on every enquiry, that is not what is measured here.
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        classifier = EnquiryHandlerFactory.getClassifier();
+        handler = new KeywordEnquiryHandler(classifier, new UnknownEnquiryHandler());
+        api = new EnquiryAPI();
+    }
+
+    @Benchmark
+    public EnquiryType classifyAcademic() {
+        return classifier.classify(ACADEMIC);
+    }
+
+    @Benchmark
+    public EnquiryType classifySubscription() {
+        return classifier.classify(SUBSCRIPTION);
+    }
+
+    @Benchmark
+    public EnquiryType classifyUnknown() {
+        return classifier.classify(UNKNOWN);
+    }
+
+    @Benchmark
+    public EnquiryType handlerUnknown() {
+        return handler.handle(UNKNOWN);
+    }
+
+    @Benchmark
+    public EnquiryType apiClassifyUnknown() {
+        return api.classify(UNKNOWN);
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import strategy.ParallelSortStrategy;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSortBenchmark {
+    private static final int SIZE = 4_000_000;
+
+    private ParallelSortStrategy parallelSort;
+    private int[] source;
+    private int[] work;
+
+    @Setup
+    public void setUp() {
+        parallelSort = new ParallelSortStrategy();
+        source = new Random(42).ints(SIZE).toArray();
+        work = new int[SIZE];
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelSort.close();
+    }
+
+    @Benchmark
+    public int[] parallelSort() {
+        System.arraycopy(source, 0, work, 0, SIZE);
+        return parallelSort.sort(work);
+    }
+}
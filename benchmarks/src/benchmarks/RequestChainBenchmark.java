@@ -0,0 +1,72 @@
+package benchmarks;
+
+import api.PlayVideoAPI;
+import audit.AuditLevel;
+import audit.AuditSink;
+import factory.RequestHandlerFactory;
+import handlers.RequestHandler;
+import manager.TokenManager;
+import manager.UserManager;
+import models.Request;
+import models.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestChainBenchmark {
+    private Request request;
+    private PlayVideoAPI api;
+    private RequestHandler plainHandlers;
+
+    @Setup
+    public void setUp() {
+        AuditSink.getDefault().setLevel(AuditLevel.OFF);
+        request = new Request();
+        api = new PlayVideoAPI();
+        plainHandlers = RequestHandlerFactory.buildHandlers(new TokenManager(), new UserManager());
+    }
+
+    @Benchmark
+    public RequestHandler getHandlers() {
+        return RequestHandlerFactory.getHandlers("playVideoAPI");
+    }
+
+    @Benchmark
+    public Request handlePlainChain() {
+        plainHandlers.handle(request);
+        return request;
+    }
+
+    @Benchmark
+    public Request handleDefaultChain() {
+        RequestHandlerFactory.getHandlers("playVideoAPI").handle(request);
+        return request;
+    }
+
+    @Benchmark
+    public Response playVideo() {
+        return api.playVideo(request);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Response playVideoContended() {
+        return api.playVideo(request);
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import singleton.EagerPresident;
+import singleton.LazyPresident;
+import singleton.President;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingletonBenchmark {
+    private static Object plainField = new Object();
+
+    @Setup
+    public void setUp() {
+        President.getInstance();
+        LazyPresident.getInstance();
+        EagerPresident.getInstance();
+    }
+
+    // Baseline: what getInstance() should cost once the instance exists.
+    @Benchmark
+    public Object plainFieldRead() {
+        return plainField;
+    }
+
+    @Benchmark
+    public President holder() {
+        return President.getInstance();
+    }
+
+    @Benchmark
+    public LazyPresident varHandleDoubleChecked() {
+        return LazyPresident.getInstance();
+    }
+
+    @Benchmark
+    public EagerPresident eager() {
+        return EagerPresident.getInstance();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object plainFieldReadContended() {
+        return plainField;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public President holderContended() {
+        return President.getInstance();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public LazyPresident varHandleDoubleCheckedContended() {
+        return LazyPresident.getInstance();
+    }
+}
@@ -0,0 +1,55 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sorter.Sorter;
+import strategy.BubbleSortStrategy;
+import strategy.QuickSortStrategy;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SorterBenchmark {
+    @Param({"4", "1000", "100000"})
+    private int size;
+
+    private Sorter sorter;
+    private int[] source;
+    private int[] work;
+
+    @Setup
+    public void setUp() {
+        sorter = new Sorter(new BubbleSortStrategy(), new QuickSortStrategy());
+        source = new Random(42).ints(size).toArray();
+        work = new int[size];
+    }
+
+    // Every sort copies the unsorted input first, this is that cost on its own.
+    @Benchmark
+    public int[] copy() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(source, 0, work, 0, size);
+        sorter.sort(work);
+        return work;
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import flyweight.FlyweightCache;
+import flyweight.KarakTea;
+import flyweight.Tea;
+import flyweight.TeaMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeaMakerBenchmark {
+    static final String[] TEA_TYPES = {
+            "kadakTea", "masalaTea", "gingerTea", "greenTea", "lemonTea", "iceTea", "blackTea", "cardamomTea"};
+
+    private TeaMaker teaMaker;
+    private TeaMaker weakTeaMaker;
+    private TeaMaker lruTeaMaker;
+    private int[] teaIds;
+    // Keeps the teas of the weak cache reachable, so the hit path is measured and not the GC.
+    private Tea[] held;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        teaMaker = new TeaMaker();
+        weakTeaMaker = new TeaMaker(FlyweightCache.weakValues());
+        lruTeaMaker = new TeaMaker(FlyweightCache.lruByCount(TEA_TYPES.length));
+        teaIds = new int[TEA_TYPES.length];
+        held = new Tea[TEA_TYPES.length];
+        for (int i = 0; i < TEA_TYPES.length; i++) {
+            teaIds[i] = teaMaker.idOf(TEA_TYPES[i]);
+            held[i] = weakTeaMaker.make(TEA_TYPES[i]);
+            lruTeaMaker.make(TEA_TYPES[i]);
+        }
+    }
+
+    @Benchmark
+    public Tea makeSameTea() {
+        return teaMaker.make("kadakTea");
+    }
+
+    @Benchmark
+    public Tea makeMixedTea() {
+        return teaMaker.make(TEA_TYPES[next++ & (TEA_TYPES.length - 1)]);
+    }
+
+    @Benchmark
+    public Tea makeMixedTeaById() {
+        return teaMaker.make(teaIds[next++ & (TEA_TYPES.length - 1)]);
+    }
+
+    // Hit path of each eviction policy.
+    @Benchmark
+    public Tea weakMakeMixedTea() {
+        return weakTeaMaker.make(TEA_TYPES[next++ & (TEA_TYPES.length - 1)]);
+    }
+
+    @Benchmark
+    public Tea lruMakeMixedTea() {
+        return lruTeaMaker.make(TEA_TYPES[next++ & (TEA_TYPES.length - 1)]);
+    }
+
+    // TeaMaker as it was before it moved to a ConcurrentHashMap, kept for comparison.
+    static final class HashMapTeaMaker {
+        private final Map<String, Tea> availableTea = new HashMap<>();
+
+        Tea make(String preference) {
+            if (!availableTea.containsKey(preference)) {
+                availableTea.put(preference, new KarakTea(preference));
+            }
+            return availableTea.get(preference);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import flyweight.Tea;
+import flyweight.TeaMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    Contended reads of a warm cache shared by every benchmark thread. @Threads(8) is only the default, sweep the
+    thread count with THREADS="1 2 4 8 16 32 64" benchmarks/run.sh TeaMakerContended (one JMH -t run per count).
+    The HashMap version is only safe here because nothing is written any more.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TeaMakerContendedBenchmark {
+    private TeaMaker teaMaker;
+    private TeaMakerBenchmark.HashMapTeaMaker hashMapTeaMaker;
+
+    @Setup
+    public void setUp() {
+        teaMaker = new TeaMaker();
+        hashMapTeaMaker = new TeaMakerBenchmark.HashMapTeaMaker();
+        for (String teaType : TeaMakerBenchmark.TEA_TYPES) {
+            teaMaker.make(teaType);
+            hashMapTeaMaker.make(teaType);
+        }
+    }
+
+    @Benchmark
+    public Tea makeSameTea() {
+        return teaMaker.make("kadakTea");
+    }
+
+    @Benchmark
+    public Tea hashMapMakeSameTea() {
+        return hashMapTeaMaker.make("kadakTea");
+    }
+}
@@ -0,0 +1,132 @@
+package benchmarks;
+
+import flyweight.TableOrders;
+import flyweight.Tea;
+import flyweight.TeaMaker;
+import flyweight.TeaShop;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeaShopBenchmark {
+    private static final int TABLES = 500_000;
+
+    private TeaMaker teaMaker;
+    private int[] teaIds;
+    private TeaShop shop;
+    private int next;
+
+    /*
+        Heap retained by the orders of every table, measured around a full GC. Reported as the
+        retainedBytes secondary metric, the time of the footprint benchmarks themselves means nothing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytes;
+        private int measurementIterations;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            measurementIterations = params.getMeasurement().getCount();
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+
+        // JMH sums event counters over the measurement iterations, each one adds its share so the score is the mean.
+        void record(long bytes) {
+            retainedBytes += bytes / measurementIterations;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // serve() prints every order, that is not what is measured here.
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        teaMaker = new TeaMaker();
+        teaIds = new int[TeaMakerBenchmark.TEA_TYPES.length];
+        for (int i = 0; i < teaIds.length; i++) {
+            teaIds[i] = teaMaker.idOf(TeaMakerBenchmark.TEA_TYPES[i]);
+        }
+        shop = new TeaShop(teaMaker);
+        for (int table = 0; table < TABLES; table++) {
+            shop.takeOrder(teaIds[table & (teaIds.length - 1)], table);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 5, batchSize = 1)
+    public Map<Integer, Tea> hashMapOrdersFootprint(Footprint footprint) {
+        long before = usedHeap();
+        Map<Integer, Tea> orders = new HashMap<>();
+        for (int table = 0; table < TABLES; table++) {
+            orders.put(table, teaMaker.make(teaIds[table & (teaIds.length - 1)]));
+        }
+        footprint.record(usedHeap() - before);
+        return orders;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 5, batchSize = 1)
+    public TableOrders tableOrdersFootprint(Footprint footprint) {
+        long before = usedHeap();
+        TableOrders orders = new TableOrders();
+        for (int table = 0; table < TABLES; table++) {
+            orders.put(table, teaIds[table & (teaIds.length - 1)]);
+        }
+        footprint.record(usedHeap() - before);
+        return orders;
+    }
+
+    @Benchmark
+    public TeaShop takeOrderById() {
+        int table = next++ % TABLES;
+        shop.takeOrder(teaIds[table & (teaIds.length - 1)], table);
+        return shop;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TeaShop serve() {
+        shop.serve();
+        return shop;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // A few rounds, a single System.gc() does not always clear everything.
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -1,8 +1,29 @@
+import singleton.EagerPresident;
+import singleton.LazyPresident;
+import singleton.President;
+import singleton.RequestScope;
+import singleton.SingletonRegistry;
+
+import java.util.concurrent.ForkJoinPool;
+
 public class Main {
     public static void main(String[] args) {
         President president = President.getInstance();
         President president1 = President.getInstance();
         System.out.println(president == president1);
 
+        // Warm every singleton up at startup instead of on its first use.
+        SingletonRegistry registry = new SingletonRegistry();
+        registry.register(President.class, President::getInstance);
+        registry.register(EagerPresident.class, EagerPresident::getInstance);
+        registry.register(LazyPresident.class, LazyPresident::getInstance, President.class);
+        registry.warmUp(ForkJoinPool.commonPool()).join();
+        System.out.println(registry.isReady() + " " + registry.getInitTimes());
+        System.out.println(registry.get(President.class) == President.getInstance());
+
+        // Scoped instances: one per thread, per request and per tenant.
+        System.out.println(President.getThreadInstance() == President.getThreadInstance());
+        RequestScope.run(() -> System.out.println(President.getRequestInstance() == President.getRequestInstance()));
+        System.out.println(President.getTenantInstance("acme") != President.getTenantInstance("globex"));
     }
-}
\ No newline at end of file
+}
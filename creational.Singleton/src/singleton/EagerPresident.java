@@ -0,0 +1,22 @@
+package singleton;
+
+// Eager singleton: created when the class is initialized, whether or not it is ever used.
+public final class EagerPresident {
+    private static final EagerPresident INSTANCE = new EagerPresident();
+
+    private EagerPresident() {
+    }
+
+    public static EagerPresident getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    protected Object clone() throws CloneNotSupportedException {
+        throw new CloneNotSupportedException();
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,45 @@
+package singleton;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Lazy singleton using double-checked locking with VarHandle acquire / release instead of a volatile field.
+public final class LazyPresident {
+    private static final VarHandle INSTANCE;
+    private static LazyPresident instance;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findStaticVarHandle(LazyPresident.class, "instance", LazyPresident.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private LazyPresident() {
+    }
+
+    public static LazyPresident getInstance() {
+        // The acquire read pairs with the release write below, so a non-null instance is always fully constructed.
+        LazyPresident president = (LazyPresident) INSTANCE.getAcquire();
+        if (president == null) {
+            synchronized (LazyPresident.class) {
+                president = instance;
+                if (president == null) {
+                    president = new LazyPresident();
+                    INSTANCE.setRelease(president);
+                }
+            }
+        }
+        return president;
+    }
+
+    @Override
+    protected Object clone() throws CloneNotSupportedException {
+        throw new CloneNotSupportedException();
+    }
+
+    private Object readResolve() {
+        return getInstance();
+    }
+}
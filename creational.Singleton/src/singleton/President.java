@@ -0,0 +1,59 @@
+package singleton;
+
+public final class President {
+    private static final int MAX_TENANTS = 1024;
+
+    // Scoped variants for stateful use where one JVM wide instance is too contended.
+    private static final ThreadScoped<President> PER_THREAD = new ThreadScoped<>(President::new);
+    private static final RequestScoped<President> PER_REQUEST = new RequestScoped<>(President::new);
+    private static final TenantScoped<President> PER_TENANT = new TenantScoped<>(tenantId -> new President(), MAX_TENANTS);
+
+    // private constructor to prevent instantiation outside of class
+    private President() {
+    }
+
+    /*
+        Initialization-on-demand holder: the JVM initializes Holder (and so the instance) exactly once,
+        on the first getInstance() call, with the class initialization lock making it thread safe.
+        After that getInstance() is a plain static field read.
+     */
+    private static final class Holder {
+        private static final President INSTANCE = new President();
+    }
+
+    public static President getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static President getThreadInstance() {
+        return PER_THREAD.getInstance();
+    }
+
+    public static void releaseThreadInstance() {
+        PER_THREAD.release();
+    }
+
+    // Only valid inside RequestScope.run(...).
+    public static President getRequestInstance() {
+        return PER_REQUEST.getInstance();
+    }
+
+    public static President getTenantInstance(String tenantId) {
+        return PER_TENANT.getInstance(tenantId);
+    }
+
+    public static void releaseTenantInstance(String tenantId) {
+        PER_TENANT.release(tenantId);
+    }
+
+    // Prevent cloning of the instance -VA
+    @Override
+    protected Object clone() throws CloneNotSupportedException {
+        throw new CloneNotSupportedException();
+    }
+
+    // Prevent deserialization of the instance
+    private Object readResolve() {
+        return getInstance();
+    }
+}
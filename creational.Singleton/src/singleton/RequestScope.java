@@ -0,0 +1,69 @@
+package singleton;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+    A request scope bound to the thread running the request (works the same on virtual threads).
+    RequestScoped holders create at most one instance per scope, and when the body returns - normally or not -
+    every instance created in the scope is cleaned up and the scope is gone. Scopes can nest, the inner one wins.
+ */
+public final class RequestScope {
+    private static final ThreadLocal<RequestScope> CURRENT = new ThreadLocal<>();
+
+    private final RequestScope parent;
+    private final Map<RequestScoped<?>, Object> instances = new IdentityHashMap<>();
+    private final List<Runnable> cleanups = new ArrayList<>();
+
+    private RequestScope(RequestScope parent) {
+        this.parent = parent;
+    }
+
+    public static <R> R run(Supplier<R> body) {
+        RequestScope scope = new RequestScope(CURRENT.get());
+        CURRENT.set(scope);
+        try {
+            return body.get();
+        } finally {
+            if (scope.parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(scope.parent);
+            }
+            // Last created, first cleaned.
+            for (int i = scope.cleanups.size() - 1; i >= 0; i--) {
+                scope.cleanups.get(i).run();
+            }
+        }
+    }
+
+    public static void run(Runnable body) {
+        run(() -> {
+            body.run();
+            return null;
+        });
+    }
+
+    static RequestScope current() {
+        RequestScope scope = CURRENT.get();
+        if (scope == null) {
+            throw new IllegalStateException("No request scope is active, wrap the call in RequestScope.run().");
+        }
+        return scope;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T instanceOf(RequestScoped<T> holder) {
+        T instance = (T) this.instances.get(holder);
+        if (instance == null) {
+            T created = holder.create();
+            this.instances.put(holder, created);
+            this.cleanups.add(() -> holder.cleanup(created));
+            instance = created;
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,32 @@
+package singleton;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// One instance per RequestScope.run(...), cleaned up when that scope exits.
+public final class RequestScoped<T> {
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super T> cleanup;
+
+    public RequestScoped(Supplier<? extends T> factory) {
+        this(factory, instance -> {
+        });
+    }
+
+    public RequestScoped(Supplier<? extends T> factory, Consumer<? super T> cleanup) {
+        this.factory = factory;
+        this.cleanup = cleanup;
+    }
+
+    public T getInstance() {
+        return RequestScope.current().instanceOf(this);
+    }
+
+    T create() {
+        return this.factory.get();
+    }
+
+    void cleanup(T instance) {
+        this.cleanup.accept(instance);
+    }
+}
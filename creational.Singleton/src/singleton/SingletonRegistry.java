@@ -0,0 +1,176 @@
+package singleton;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/*
+    Knows the application's singletons and what each of them needs first.
+    warmUp() initializes them at startup - everything whose dependencies are ready runs in parallel - so the
+    first requests after a deploy do not pay for lazy initialization. Each singleton is initialized exactly once,
+    whether by warmUp() or by an earlier get(), and its state and init time can be inspected.
+    Dependencies may be registered after their dependents, but a registration that would close a cycle is rejected.
+    A singleton whose dependency failed is FAILED too, without its initializer being run.
+ */
+public final class SingletonRegistry {
+    public enum State {
+        REGISTERED, INITIALIZING, READY, FAILED
+    }
+
+    private final Map<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+
+    // President style singletons register their getInstance method, e.g. register(President.class, President::getInstance).
+    // Synchronized so two registrations cannot each close half of a cycle, get() does not take the lock.
+    public synchronized <T> void register(Class<T> type, Supplier<? extends T> initializer, Class<?>... dependencies) {
+        if (this.entries.containsKey(type)) {
+            throw new IllegalStateException(type.getName() + " is already registered.");
+        }
+        List<Class<?>> dependencyList = List.of(dependencies);
+        checkNoCycle(type, dependencyList, new HashSet<>());
+        this.entries.put(type, new Entry(type, initializer, dependencyList));
+    }
+
+    // Completes when every registered singleton is READY, or exceptionally with the first failure.
+    public CompletableFuture<Void> warmUp(Executor executor) {
+        Map<Entry, CompletableFuture<Object>> futures = new HashMap<>();
+        for (Entry entry : this.entries.values()) {
+            schedule(entry, executor, futures);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
+    }
+
+    public <T> T get(Class<T> type) {
+        return type.cast(initialize(entry(type)));
+    }
+
+    public State getState(Class<?> type) {
+        return entry(type).state;
+    }
+
+    public boolean isReady() {
+        for (Entry entry : this.entries.values()) {
+            if (entry.state != State.READY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Only READY singletons have a time.
+    public Map<Class<?>, Duration> getInitTimes() {
+        Map<Class<?>, Duration> times = new LinkedHashMap<>();
+        for (Entry entry : this.entries.values()) {
+            if (entry.state == State.READY) {
+                times.put(entry.type, Duration.ofNanos(entry.initNanos));
+            }
+        }
+        return times;
+    }
+
+    private CompletableFuture<Object> schedule(Entry entry, Executor executor, Map<Entry, CompletableFuture<Object>> futures) {
+        CompletableFuture<Object> scheduled = futures.get(entry);
+        if (scheduled != null) {
+            return scheduled;
+        }
+        List<CompletableFuture<Object>> dependencies = new ArrayList<>();
+        for (Class<?> dependency : entry.dependencies) {
+            dependencies.add(schedule(entry(dependency), executor, futures));
+        }
+        // Marked before its own future completes, so a failed warmUp() already shows every FAILED dependent.
+        scheduled = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        markFailed(entry);
+                    }
+                })
+                .thenApplyAsync(ignored -> initialize(entry), executor);
+        futures.put(entry, scheduled);
+        return scheduled;
+    }
+
+    private Object initialize(Entry entry) {
+        if (entry.state == State.READY) {
+            return entry.instance;
+        }
+        for (Class<?> dependency : entry.dependencies) {
+            try {
+                initialize(entry(dependency));
+            } catch (RuntimeException | Error e) {
+                markFailed(entry);
+                throw e;
+            }
+        }
+        synchronized (entry) {
+            if (entry.state != State.READY) {
+                entry.state = State.INITIALIZING;
+                long start = System.nanoTime();
+                try {
+                    entry.instance = entry.initializer.get();
+                } catch (RuntimeException | Error e) {
+                    entry.state = State.FAILED;
+                    throw e;
+                }
+                entry.initNanos = System.nanoTime() - start;
+                entry.state = State.READY;
+            }
+            return entry.instance;
+        }
+    }
+
+    // A later get() tries again, a READY singleton is left alone.
+    private static void markFailed(Entry entry) {
+        synchronized (entry) {
+            if (entry.state != State.READY) {
+                entry.state = State.FAILED;
+            }
+        }
+    }
+
+    /*
+        The registered graph has no cycle, so a new one has to run through type: it does when type can be reached from
+        its own dependencies. Dependencies not registered yet end the search, they are checked when they register.
+     */
+    private void checkNoCycle(Class<?> type, List<Class<?>> dependencies, Set<Class<?>> visited) {
+        for (Class<?> dependency : dependencies) {
+            if (dependency == type) {
+                throw new IllegalStateException("Dependency cycle through " + type.getName());
+            }
+            Entry entry = this.entries.get(dependency);
+            if (entry != null && visited.add(dependency)) {
+                checkNoCycle(type, entry.dependencies, visited);
+            }
+        }
+    }
+
+    private Entry entry(Class<?> type) {
+        Entry entry = this.entries.get(type);
+        if (entry == null) {
+            throw new IllegalArgumentException(type.getName() + " is not registered.");
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        private final Class<?> type;
+        private final Supplier<?> initializer;
+        private final List<Class<?>> dependencies;
+        private volatile State state = State.REGISTERED;
+        private volatile Object instance;
+        private volatile long initNanos;
+
+        private Entry(Class<?> type, Supplier<?> initializer, List<Class<?>> dependencies) {
+            this.type = type;
+            this.initializer = initializer;
+            this.dependencies = dependencies;
+        }
+    }
+}
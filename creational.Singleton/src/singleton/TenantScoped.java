@@ -0,0 +1,139 @@
+package singleton;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/*
+    One instance per tenant in a concurrent map bounded to maxTenants. Reading an existing tenant's instance is a map
+    get plus a read of that tenant's own reference bit, which is only written when an eviction sweep has cleared it,
+    so hits on different tenants share no memory. Recency is approximate: evictions use CLOCK (second chance) over a
+    queue of the slots in creation order, a slot used since the hand last passed goes round again, the first one that
+    was not is dropped and cleaned up. One thread evicts at a time and never below the bound.
+    release(tenantId) ends a tenant's scope explicitly.
+ */
+public final class TenantScoped<T> {
+    private final Function<String, ? extends T> factory;
+    private final Consumer<? super T> cleanup;
+    private final int maxTenants;
+    private final Map<String, Slot<T>> instances = new ConcurrentHashMap<>();
+    // The CLOCK ring, its head is the hand. Released slots are skipped when the hand reaches them.
+    private final Queue<Slot<T>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger releasedInClock = new AtomicInteger();
+    private final AtomicBoolean maintaining = new AtomicBoolean();
+
+    public TenantScoped(Function<String, ? extends T> factory, int maxTenants) {
+        this(factory, maxTenants, instance -> {
+        });
+    }
+
+    public TenantScoped(Function<String, ? extends T> factory, int maxTenants, Consumer<? super T> cleanup) {
+        if (maxTenants <= 0) {
+            throw new IllegalArgumentException("maxTenants must be positive.");
+        }
+        this.factory = factory;
+        this.maxTenants = maxTenants;
+        this.cleanup = cleanup;
+    }
+
+    public T getInstance(String tenantId) {
+        Slot<T> slot = this.instances.get(tenantId);
+        if (slot != null) {
+            slot.touch();
+            return slot.instance;
+        }
+        slot = this.instances.computeIfAbsent(tenantId, id -> {
+            // Queued at the tail, so the hand reaches every older slot first.
+            Slot<T> created = new Slot<>(id, this.factory.apply(id));
+            this.clock.add(created);
+            return created;
+        });
+        maintain();
+        return slot.instance;
+    }
+
+    public void release(String tenantId) {
+        Slot<T> slot = this.instances.remove(tenantId);
+        if (slot != null) {
+            slot.released = true;
+            this.cleanup.accept(slot.instance);
+            if (this.releasedInClock.incrementAndGet() > this.maxTenants) {
+                maintain();
+            }
+        }
+    }
+
+    public int size() {
+        return this.instances.size();
+    }
+
+    /*
+        Only the thread that wins the flag works. It checks again after letting go of the flag, so a tenant added
+        while it was finishing - whose own thread saw the flag taken and left - is not left over the bound.
+     */
+    private void maintain() {
+        while (needsMaintenance() && this.maintaining.compareAndSet(false, true)) {
+            try {
+                // Explicit releases leave their slots in the ring, drop them once there are as many as live slots.
+                if (this.releasedInClock.get() > this.maxTenants) {
+                    this.releasedInClock.set(0);
+                    this.clock.removeIf(slot -> slot.released);
+                }
+                evictOverflow();
+            } finally {
+                this.maintaining.set(false);
+            }
+        }
+    }
+
+    private boolean needsMaintenance() {
+        return this.instances.size() > this.maxTenants || this.releasedInClock.get() > this.maxTenants;
+    }
+
+    private void evictOverflow() {
+        while (this.instances.size() > this.maxTenants) {
+            Slot<T> slot = this.clock.poll();
+            if (slot == null) {
+                return;
+            }
+            if (slot.released) {
+                continue;
+            }
+            if (slot.referenced) {
+                slot.referenced = false;
+                this.clock.add(slot);
+                continue;
+            }
+            // Only the slot the hand found, not one created for the same tenant after a release.
+            if (this.instances.remove(slot.tenantId, slot)) {
+                slot.released = true;
+                this.cleanup.accept(slot.instance);
+            }
+        }
+    }
+
+    private static final class Slot<T> {
+        private final String tenantId;
+        private final T instance;
+        // Plain field on purpose: a lost or late update only makes the recency a little less exact.
+        private boolean referenced;
+        private volatile boolean released;
+
+        private Slot(String tenantId, T instance) {
+            this.tenantId = tenantId;
+            this.instance = instance;
+        }
+
+        // Written only when the hand has cleared it, so a hot tenant's slot stays in every core's cache.
+        private void touch() {
+            if (!this.referenced) {
+                this.referenced = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package singleton;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// One instance per thread. release() ends the scope for the calling thread, e.g. when a pooled thread finishes a task.
+public final class ThreadScoped<T> {
+    private final ThreadLocal<T> instances = new ThreadLocal<>();
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super T> cleanup;
+
+    public ThreadScoped(Supplier<? extends T> factory) {
+        this(factory, instance -> {
+        });
+    }
+
+    public ThreadScoped(Supplier<? extends T> factory, Consumer<? super T> cleanup) {
+        this.factory = factory;
+        this.cleanup = cleanup;
+    }
+
+    public T getInstance() {
+        T instance = this.instances.get();
+        if (instance == null) {
+            instance = this.factory.get();
+            this.instances.set(instance);
+        }
+        return instance;
+    }
+
+    // Does nothing on a thread that never created its instance, rather than creating one only to clean it up.
+    public void release() {
+        T instance = this.instances.get();
+        if (instance == null) {
+            return;
+        }
+        this.instances.remove();
+        this.cleanup.accept(instance);
+    }
+}
@@ -0,0 +1,98 @@
+package singleton;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScopedInstancesTest {
+    @Test
+    void threadReleaseWithoutAnInstanceCreatesNothing() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger cleaned = new AtomicInteger();
+        ThreadScoped<Object> scoped = new ThreadScoped<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, instance -> cleaned.incrementAndGet());
+
+        scoped.release();
+        assertEquals(0, created.get());
+        assertEquals(0, cleaned.get());
+
+        Object instance = scoped.getInstance();
+        assertSame(instance, scoped.getInstance());
+        scoped.release();
+        assertEquals(1, created.get());
+        assertEquals(1, cleaned.get());
+    }
+
+    @Test
+    void tenantsStayAtTheBoundUnderConcurrentCreation() throws Exception {
+        int maxTenants = 8;
+        int threads = 16;
+        int tenantsPerThread = 500;
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger cleaned = new AtomicInteger();
+        TenantScoped<Object> scoped = new TenantScoped<>(id -> {
+            created.incrementAndGet();
+            return new Object();
+        }, maxTenants, instance -> cleaned.incrementAndGet());
+
+        CyclicBarrier start = new CyclicBarrier(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < tenantsPerThread; i++) {
+                    scoped.getInstance("tenant-" + thread + "-" + i);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * tenantsPerThread, created.get());
+        assertEquals(maxTenants, scoped.size());
+        assertEquals(created.get() - maxTenants, cleaned.get());
+    }
+
+    @Test
+    void leastRecentlyUsedTenantIsEvicted() {
+        TenantScoped<Object> scoped = new TenantScoped<>(id -> new Object(), 2);
+        Object a = scoped.getInstance("a");
+        scoped.getInstance("b");
+        assertSame(a, scoped.getInstance("a"));
+        scoped.getInstance("c");
+        assertEquals(2, scoped.size());
+        assertSame(a, scoped.getInstance("a"));
+    }
+
+    @Test
+    void releasedAndEvictedTenantsAreCleanedUpOnce() {
+        AtomicInteger cleaned = new AtomicInteger();
+        TenantScoped<Object> scoped = new TenantScoped<>(id -> new Object(), 4, instance -> cleaned.incrementAndGet());
+        for (int i = 0; i < 1000; i++) {
+            scoped.getInstance("tenant-" + i);
+            // Every third tenant is released by hand, the others are left for eviction.
+            if (i % 3 == 0) {
+                scoped.release("tenant-" + i);
+            }
+        }
+        assertTrue(scoped.size() <= 4);
+        assertEquals(1000, cleaned.get() + scoped.size());
+    }
+}
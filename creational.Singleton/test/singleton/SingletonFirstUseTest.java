@@ -0,0 +1,64 @@
+package singleton;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/*
+    Races many threads on the very first getInstance() call. Every round loads the singleton class in a new class
+    loader, so the class is not initialized yet and the threads really do compete to create the instance.
+ */
+class SingletonFirstUseTest {
+    private static final int ROUNDS = 50;
+    private static final int THREADS = 16;
+
+    @ParameterizedTest
+    @ValueSource(classes = {President.class, LazyPresident.class, EagerPresident.class})
+    void everyThreadSeesTheSameInstanceOnFirstUse(Class<?> singleton) throws Exception {
+        URL classes = singleton.getProtectionDomain().getCodeSource().getLocation();
+        for (int round = 0; round < ROUNDS; round++) {
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+                Class<?> fresh = Class.forName(singleton.getName(), false, loader);
+                assertNotSame(singleton, fresh);
+                assertEquals(1, instancesSeenOnFirstUse(fresh.getMethod("getInstance")), "round " + round);
+            }
+        }
+    }
+
+    private static int instancesSeenOnFirstUse(Method getInstance) throws Exception {
+        Set<Object> instances = ConcurrentHashMap.newKeySet();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    instances.add(getInstance.invoke(null));
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        return instances.size();
+    }
+}
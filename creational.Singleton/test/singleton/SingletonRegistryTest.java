@@ -0,0 +1,142 @@
+package singleton;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Registration rejects dependency cycles, and a failure marks everything that depends on it FAILED.
+class SingletonRegistryTest {
+    record A() {
+    }
+
+    record B() {
+    }
+
+    record C() {
+    }
+
+    record D() {
+    }
+
+    @Test
+    void registrationThatClosesACycleIsRejected() {
+        SingletonRegistry registry = new SingletonRegistry();
+        registry.register(A.class, A::new, B.class);
+        registry.register(B.class, B::new, C.class);
+
+        assertThrows(IllegalStateException.class, () -> registry.register(C.class, C::new, A.class));
+        assertThrows(IllegalStateException.class, () -> registry.register(D.class, D::new, D.class));
+
+        // Neither was registered, so get() reports the missing singleton instead of recursing until the stack runs out.
+        assertThrows(IllegalArgumentException.class, () -> registry.getState(C.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.getState(D.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.get(A.class));
+        registry.register(C.class, C::new);
+        assertEquals(new A(), registry.get(A.class));
+    }
+
+    @Test
+    void getMarksTheDependentsOfAFailedSingletonFailed() {
+        SingletonRegistry registry = new SingletonRegistry();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger dependentInits = new AtomicInteger();
+        registry.register(A.class, () -> {
+            dependentInits.incrementAndGet();
+            return new A();
+        }, B.class);
+        registry.register(B.class, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("B is down");
+            }
+            return new B();
+        });
+
+        assertThrows(IllegalStateException.class, () -> registry.get(A.class));
+
+        assertEquals(SingletonRegistry.State.FAILED, registry.getState(B.class));
+        assertEquals(SingletonRegistry.State.FAILED, registry.getState(A.class));
+        assertEquals(0, dependentInits.get());
+        // A later get() tries again.
+        assertEquals(new A(), registry.get(A.class));
+        assertEquals(SingletonRegistry.State.READY, registry.getState(A.class));
+        assertEquals(1, dependentInits.get());
+    }
+
+    @Test
+    void warmUpMarksTheDependentsOfAFailedSingletonFailed() {
+        SingletonRegistry registry = new SingletonRegistry();
+        List<Class<?>> initialized = new CopyOnWriteArrayList<>();
+        IllegalStateException failure = new IllegalStateException("A is down");
+        registry.register(C.class, () -> {
+            initialized.add(C.class);
+            return new C();
+        }, B.class);
+        registry.register(B.class, () -> {
+            initialized.add(B.class);
+            return new B();
+        }, A.class);
+        registry.register(A.class, () -> {
+            throw failure;
+        });
+        registry.register(D.class, () -> {
+            initialized.add(D.class);
+            return new D();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletionException thrown = assertThrows(CompletionException.class,
+                    () -> registry.warmUp(executor).join());
+
+            assertSame(failure, thrown.getCause());
+            assertEquals(SingletonRegistry.State.FAILED, registry.getState(A.class));
+            assertEquals(SingletonRegistry.State.FAILED, registry.getState(B.class));
+            assertEquals(SingletonRegistry.State.FAILED, registry.getState(C.class));
+            assertEquals(SingletonRegistry.State.READY, registry.getState(D.class));
+            assertEquals(List.of(D.class), initialized);
+            assertFalse(registry.isReady());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void warmUpInitializesDependenciesFirst() {
+        SingletonRegistry registry = new SingletonRegistry();
+        List<Class<?>> initialized = new CopyOnWriteArrayList<>();
+        registry.register(C.class, () -> {
+            initialized.add(C.class);
+            return new C();
+        }, A.class, B.class);
+        registry.register(B.class, () -> {
+            initialized.add(B.class);
+            return new B();
+        }, A.class);
+        registry.register(A.class, () -> {
+            initialized.add(A.class);
+            return new A();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            registry.warmUp(executor).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of(A.class, B.class, C.class), initialized);
+        assertTrue(registry.isReady());
+        assertInstanceOf(C.class, registry.get(C.class));
+        assertEquals(3, registry.getInitTimes().size());
+    }
+}
@@ -1,4 +0,0 @@
-public class KarakTea implements Tea {
-//    This class represents the flyweight object that will be cached. In this example, it's a simple class with no methods or fields.
-
-}
@@ -1,3 +1,6 @@
+import flyweight.TeaMaker;
+import flyweight.TeaShop;
+
 public class Main {
     public static void main(String[] args) {
 
@@ -5,6 +8,11 @@ public class Main {
         TeaShop shop = new TeaShop(teaMaker);
 
         shop.takeOrder("kadakTea", 1);
+        // Intern the tea type once, later orders skip the string lookup.
+        int kadakTea = teaMaker.idOf("kadakTea");
+        shop.takeOrder(kadakTea, 2);
+        shop.takeOrder("masalaTea", 3);
+        shop.takeOrder(kadakTea, 4);
         shop.serve();
     }
 }
\ No newline at end of file
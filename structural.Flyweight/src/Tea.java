@@ -1,5 +0,0 @@
-// Anything that will be cached is flyweight.
-// Types of tea here will be flyweights.
-interface Tea {
-    // No need to implement any methods or fields for this example.
-}
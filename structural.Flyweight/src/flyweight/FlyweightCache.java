@@ -0,0 +1,43 @@
+package flyweight;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/*
+    Where a flyweight factory keeps the flyweights it made. Implementations differ in when they let go of one,
+    but none of them ever hands out a second instance for a key while the first is still referenced.
+ */
+public interface FlyweightCache<K, V> {
+    // The flyweight for key, made with factory if the cache has none.
+    V get(K key, Function<? super K, ? extends V> factory);
+
+    // Entries currently held, collected references may still be counted until the next get.
+    int size();
+
+    FlyweightCacheMetrics metrics();
+
+    // Keeps every flyweight forever.
+    static <K, V> FlyweightCache<K, V> strong() {
+        return new StrongFlyweightCache<>();
+    }
+
+    // Drops a flyweight as soon as nothing else references it.
+    static <K, V> FlyweightCache<K, V> weakValues() {
+        return new ReferenceFlyweightCache<>(ReferenceFlyweightCache.Strength.WEAK);
+    }
+
+    // Drops unreferenced flyweights only when the heap runs short.
+    static <K, V> FlyweightCache<K, V> softValues() {
+        return new ReferenceFlyweightCache<>(ReferenceFlyweightCache.Strength.SOFT);
+    }
+
+    // Holds the maxEntries most recently used flyweights.
+    static <K, V> FlyweightCache<K, V> lruByCount(int maxEntries) {
+        return new LruFlyweightCache<>(maxEntries, Long.MAX_VALUE, value -> 0);
+    }
+
+    // Holds recently used flyweights up to maxBytes, as estimated by weigher.
+    static <K, V> FlyweightCache<K, V> lruByBytes(long maxBytes, ToLongFunction<? super V> weigher) {
+        return new LruFlyweightCache<>(Integer.MAX_VALUE, maxBytes, weigher);
+    }
+}
@@ -0,0 +1,62 @@
+package flyweight;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class FlyweightCacheMetrics {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder demotions = new LongAdder();
+    private final LongAdder rescues = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordDemotion() {
+        demotions.increment();
+    }
+
+    void recordRescue() {
+        rescues.increment();
+    }
+
+    // LRU only, it takes a lock on every get anyway. A shared counter would cost the lock-free caches more than the hit.
+    public long hits() {
+        return hits.sum();
+    }
+
+    // Flyweights the factory had to make.
+    public long misses() {
+        return misses.sum();
+    }
+
+    // Flyweights the cache let go of for good.
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    // LRU only: flyweights pushed out of the bounded set into the weak backing map.
+    public long demotions() {
+        return demotions.sum();
+    }
+
+    // LRU only: demoted flyweights asked for again while still alive, reused instead of made again.
+    public long rescues() {
+        return rescues.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions()
+                + ", demotions=" + demotions() + ", rescues=" + rescues();
+    }
+}
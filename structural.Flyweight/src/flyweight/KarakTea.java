@@ -0,0 +1,26 @@
+package flyweight;
+
+public class KarakTea implements Tea {
+//    This class represents the flyweight object that will be cached. It only holds what every order of the tea shares.
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final String name;
+    private final String servingLine;
+
+    public KarakTea(String name) {
+        this.name = name;
+        this.servingLine = "Serving " + name + " to table# ";
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void serve(int[] tables, int from, int to, StringBuilder out) {
+        for (int i = from; i < to; i++) {
+            out.append(servingLine).append(tables[i]).append(LINE_SEPARATOR);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package flyweight;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/*
+    Keeps the most recently used flyweights strongly reachable, bounded by a count or by estimated bytes.
+    A flyweight pushed out of that set is only demoted to a weak map, so anyone still holding it gets the
+    same instance back on the next get instead of a duplicate. It is gone for good once the GC clears it.
+ */
+public class LruFlyweightCache<K, V> implements FlyweightCache<K, V> {
+    private final int maxEntries;
+    private final long maxBytes;
+    // Must give the same estimate for a flyweight every time, it is asked again on demotion.
+    private final ToLongFunction<? super V> weigher;
+    private final FlyweightCacheMetrics metrics = new FlyweightCacheMetrics();
+    // Every flyweight handed out that is still alive, recent or not.
+    private final ReferenceFlyweightCache<K, V> everyFlyweight;
+    private final LinkedHashMap<K, V> recent = new LinkedHashMap<>(16, 0.75f, true);
+    private long recentBytes;
+
+    public LruFlyweightCache(int maxEntries, long maxBytes, ToLongFunction<? super V> weigher) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Bounds must be positive: maxEntries=" + maxEntries + ", maxBytes=" + maxBytes);
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.weigher = weigher;
+        this.everyFlyweight = new ReferenceFlyweightCache<>(ReferenceFlyweightCache.Strength.WEAK, metrics);
+    }
+
+    // Synchronized because an access ordered LinkedHashMap changes on every hit.
+    @Override
+    public synchronized V get(K key, Function<? super K, ? extends V> factory) {
+        V value = recent.get(key);
+        if (value != null) {
+            metrics.recordHit();
+            return value;
+        }
+        value = everyFlyweight.lookup(key);
+        if (value != null) {
+            metrics.recordRescue();
+        } else {
+            value = everyFlyweight.getOrCreate(key, factory);
+        }
+        recent.put(key, value);
+        recentBytes += weigher.applyAsLong(value);
+        demoteOverflow();
+        return value;
+    }
+
+    // Flyweights in the bounded recent set, demoted ones that are still alive are not counted.
+    @Override
+    public synchronized int size() {
+        return recent.size();
+    }
+
+    @Override
+    public FlyweightCacheMetrics metrics() {
+        return metrics;
+    }
+
+    private void demoteOverflow() {
+        Iterator<Map.Entry<K, V>> eldest = recent.entrySet().iterator();
+        while ((recent.size() > maxEntries || recentBytes > maxBytes) && eldest.hasNext()) {
+            V demoted = eldest.next().getValue();
+            eldest.remove();
+            recentBytes -= weigher.applyAsLong(demoted);
+            metrics.recordDemotion();
+        }
+    }
+}
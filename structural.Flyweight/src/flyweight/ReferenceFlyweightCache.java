@@ -0,0 +1,133 @@
+package flyweight;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+    Holds flyweights through weak or soft references. The garbage collector only clears a reference once nothing else
+    holds the flyweight, so while anyone still uses it every get returns that same instance.
+ */
+public class ReferenceFlyweightCache<K, V> implements FlyweightCache<K, V> {
+    public enum Strength {
+        WEAK, SOFT
+    }
+
+    private interface ValueReference<K, V> {
+        K key();
+
+        V get();
+    }
+
+    private static final class WeakValue<K, V> extends WeakReference<V> implements ValueReference<K, V> {
+        private final K key;
+
+        WeakValue(K key, V value, ReferenceQueue<? super V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+
+        @Override
+        public K key() {
+            return key;
+        }
+    }
+
+    private static final class SoftValue<K, V> extends SoftReference<V> implements ValueReference<K, V> {
+        private final K key;
+
+        SoftValue(K key, V value, ReferenceQueue<? super V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+
+        @Override
+        public K key() {
+            return key;
+        }
+    }
+
+    private final Map<K, ValueReference<K, V>> flyweights = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> collected = new ReferenceQueue<>();
+    private final Strength strength;
+    private final FlyweightCacheMetrics metrics;
+
+    public ReferenceFlyweightCache(Strength strength) {
+        this(strength, new FlyweightCacheMetrics());
+    }
+
+    // The LRU cache shares its metrics with the weak map behind it.
+    ReferenceFlyweightCache(Strength strength, FlyweightCacheMetrics metrics) {
+        this.strength = strength;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> factory) {
+        V value = lookup(key);
+        if (value != null) {
+            return value;
+        }
+        return getOrCreate(key, factory);
+    }
+
+    @Override
+    public int size() {
+        return flyweights.size();
+    }
+
+    @Override
+    public FlyweightCacheMetrics metrics() {
+        return metrics;
+    }
+
+    // The live flyweight for key or null, counts nothing but evictions.
+    V lookup(K key) {
+        expungeCollected();
+        ValueReference<K, V> reference = flyweights.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    // Makes the flyweight unless another thread got there first. compute keeps this to one factory call per key.
+    V getOrCreate(K key, Function<? super K, ? extends V> factory) {
+        Object[] result = new Object[1];
+        flyweights.compute(key, (k, reference) -> {
+            V live = reference == null ? null : reference.get();
+            if (live != null) {
+                result[0] = live;
+                return reference;
+            }
+            if (reference != null) {
+                // Cleared but not queued yet, expungeCollected will find it replaced and not count it again.
+                metrics.recordEviction();
+            }
+            metrics.recordMiss();
+            V made = factory.apply(k);
+            result[0] = made;
+            return newReference(k, made);
+        });
+        @SuppressWarnings("unchecked")
+        V value = (V) result[0];
+        return value;
+    }
+
+    private ValueReference<K, V> newReference(K key, V value) {
+        return strength == Strength.WEAK ? new WeakValue<>(key, value, collected) : new SoftValue<>(key, value, collected);
+    }
+
+    // Removes entries whose flyweight was collected. poll is a single volatile read when the queue is empty.
+    @SuppressWarnings("unchecked")
+    private void expungeCollected() {
+        Reference<? extends V> reference;
+        while ((reference = collected.poll()) != null) {
+            ValueReference<K, V> cleared = (ValueReference<K, V>) reference;
+            if (flyweights.remove(cleared.key(), cleared)) {
+                metrics.recordEviction();
+            }
+        }
+    }
+}
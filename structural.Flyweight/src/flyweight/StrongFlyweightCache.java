@@ -0,0 +1,38 @@
+package flyweight;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class StrongFlyweightCache<K, V> implements FlyweightCache<K, V> {
+    private final Map<K, V> flyweights = new ConcurrentHashMap<>();
+    private final FlyweightCacheMetrics metrics = new FlyweightCacheMetrics();
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> factory) {
+        // Hit path is a single non-blocking lookup, computeIfAbsent only runs for a key not seen before.
+        V value = flyweights.get(key);
+        if (value != null) {
+            return value;
+        }
+        boolean[] made = {false};
+        value = flyweights.computeIfAbsent(key, k -> {
+            made[0] = true;
+            return factory.apply(k);
+        });
+        if (made[0]) {
+            metrics.recordMiss();
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return flyweights.size();
+    }
+
+    @Override
+    public FlyweightCacheMetrics metrics() {
+        return metrics;
+    }
+}
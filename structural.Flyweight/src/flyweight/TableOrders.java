@@ -0,0 +1,139 @@
+package flyweight;
+
+import java.util.Arrays;
+
+/*
+    Open addressing map from table number to tea id. Keys and values sit in two int arrays,
+    so an order costs eight bytes per slot instead of a boxed key plus a map entry.
+ */
+public class TableOrders {
+    public interface OrderVisitor {
+        void visit(int table, int teaId);
+    }
+
+    // Tea ids are never negative, so a negative value marks a free slot and any int can be a table number.
+    private static final int FREE = -1;
+
+    private int[] tables;
+    private int[] teaIds;
+    private int size;
+    private int maxTeaId = -1;
+
+    public TableOrders() {
+        this(16);
+    }
+
+    public TableOrders(int expectedOrders) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedOrders * 2 - 1)) << 1;
+        this.tables = new int[capacity];
+        this.teaIds = new int[capacity];
+        Arrays.fill(this.teaIds, FREE);
+    }
+
+    // Returns the tea id the table had before, or -1.
+    public int put(int table, int teaId) {
+        if (teaId < 0) {
+            throw new IllegalArgumentException("Tea id must not be negative: " + teaId);
+        }
+        this.maxTeaId = Math.max(this.maxTeaId, teaId);
+        int slot = slotOf(table);
+        int previous = this.teaIds[slot];
+        if (previous == FREE) {
+            this.tables[slot] = table;
+            this.teaIds[slot] = teaId;
+            // Grow at 3/4 load, probes stay short.
+            if (++this.size * 4 > this.tables.length * 3) {
+                resize();
+            }
+        } else {
+            this.teaIds[slot] = teaId;
+        }
+        return previous;
+    }
+
+    // Returns the tea id ordered for the table, or -1.
+    public int get(int table) {
+        return this.teaIds[slotOf(table)];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    // Highest tea id ever ordered, -1 while there are no orders.
+    public int maxTeaId() {
+        return this.maxTeaId;
+    }
+
+    /*
+        Counting sort of the tables by tea id: the tables that ordered tea id t end up in
+        grouped[starts[t]] to grouped[starts[t + 1] - 1]. starts needs maxTeaId() + 2 slots, grouped needs size().
+        Two sequential passes over the arrays, nothing is allocated.
+     */
+    public void groupByTea(int[] starts, int[] grouped) {
+        int teaIdLimit = this.maxTeaId + 1;
+        int[] tables = this.tables;
+        int[] teaIds = this.teaIds;
+        Arrays.fill(starts, 0, teaIdLimit + 1, 0);
+        for (int teaId : teaIds) {
+            if (teaId != FREE) {
+                starts[teaId + 1]++;
+            }
+        }
+        for (int teaId = 0; teaId < teaIdLimit; teaId++) {
+            starts[teaId + 1] += starts[teaId];
+        }
+        // starts[t] doubles as the write cursor of tea t, undone below.
+        for (int slot = 0; slot < teaIds.length; slot++) {
+            if (teaIds[slot] != FREE) {
+                grouped[starts[teaIds[slot]]++] = tables[slot];
+            }
+        }
+        for (int teaId = teaIdLimit; teaId > 0; teaId--) {
+            starts[teaId] = starts[teaId - 1];
+        }
+        starts[0] = 0;
+    }
+
+    // Walks the arrays directly, nothing is boxed or allocated.
+    public void forEach(OrderVisitor visitor) {
+        int[] tables = this.tables;
+        int[] teaIds = this.teaIds;
+        for (int slot = 0; slot < teaIds.length; slot++) {
+            if (teaIds[slot] != FREE) {
+                visitor.visit(tables[slot], teaIds[slot]);
+            }
+        }
+    }
+
+    // Slot holding the table, or the free slot where it would go.
+    private int slotOf(int table) {
+        int mask = this.tables.length - 1;
+        int slot = mix(table) & mask;
+        while (this.teaIds[slot] != FREE && this.tables[slot] != table) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldTables = this.tables;
+        int[] oldTeaIds = this.teaIds;
+        this.tables = new int[oldTables.length * 2];
+        this.teaIds = new int[oldTables.length * 2];
+        Arrays.fill(this.teaIds, FREE);
+        for (int slot = 0; slot < oldTables.length; slot++) {
+            if (oldTeaIds[slot] != FREE) {
+                int newSlot = slotOf(oldTables[slot]);
+                this.tables[newSlot] = oldTables[slot];
+                this.teaIds[newSlot] = oldTeaIds[slot];
+            }
+        }
+    }
+
+    // Table numbers are usually consecutive, spread them so they don't cluster in one run of slots.
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,11 @@
+package flyweight;
+
+// Anything that will be cached is flyweight.
+// Types of tea here will be flyweights.
+public interface Tea {
+    // Intrinsic state, the same for every order of this tea.
+    String name();
+
+    // Serves a batch of orders of this tea. The tables are the extrinsic state, passed in by the shop.
+    void serve(int[] tables, int from, int to, StringBuilder out);
+}
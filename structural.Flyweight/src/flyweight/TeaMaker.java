@@ -0,0 +1,66 @@
+package flyweight;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TeaMaker {
+    private final FlyweightCache<String, Tea> availableTea;
+
+    // Tea names interned to small ids, the id indexes straight into teasById. Only names passed to idOf end up here.
+    private final Map<String, Integer> teaIds = new ConcurrentHashMap<>();
+    private volatile Tea[] teasById = new Tea[16];
+    private int nextTeaId;
+
+    public TeaMaker() {
+        this(FlyweightCache.strong());
+    }
+
+    /*
+        Eviction applies to every tea looked up by name, including TeaShop orders by name. Teas interned with idOf
+        stay pinned in teasById, so idOf is meant for a fixed menu, not for user-defined teas.
+     */
+    public TeaMaker(FlyweightCache<String, Tea> availableTea) {
+        this.availableTea = availableTea;
+    }
+
+    public Tea make(String preference) {
+        return availableTea.get(preference, KarakTea::new);
+    }
+
+    // Hashes the name once, callers keep the id and use make(int) from then on. The tea is never evicted.
+    public int idOf(String preference) {
+        Integer teaId = teaIds.get(preference);
+        if (teaId != null) {
+            return teaId;
+        }
+        synchronized (this) {
+            teaId = teaIds.get(preference);
+            if (teaId == null) {
+                teaId = nextTeaId++;
+                Tea[] teas = teasById;
+                if (teaId == teas.length) {
+                    teas = Arrays.copyOf(teas, teas.length * 2);
+                }
+                teas[teaId] = make(preference);
+                // Publish the table before the id, so whoever sees the id also sees its tea.
+                teasById = teas;
+                teaIds.put(preference, teaId);
+            }
+            return teaId;
+        }
+    }
+
+    // Array index, no hashing. Only ids handed out by idOf are valid.
+    public Tea make(int teaId) {
+        Tea[] teas = teasById;
+        if (teaId < 0 || teaId >= teas.length || teas[teaId] == null) {
+            throw new IllegalArgumentException("Unknown tea id: " + teaId);
+        }
+        return teas[teaId];
+    }
+
+    public FlyweightCacheMetrics metrics() {
+        return availableTea.metrics();
+    }
+}
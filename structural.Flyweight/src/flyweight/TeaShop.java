@@ -0,0 +1,107 @@
+package flyweight;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class TeaShop {
+    // Orders per print, keeps the StringBuilder small while one write still covers many orders.
+    private static final int SERVE_BATCH = 1024;
+
+    private final TeaMaker teaMaker;
+    // Table -> shop id of the tea ordered there.
+    private final TableOrders orders = new TableOrders();
+
+    /*
+        Teas with open orders under small shop ids. The shop holds a tea only while some table has ordered it, so
+        an evicting cache in TeaMaker can drop the tea once its last order is replaced, and its id is reused.
+     */
+    private Tea[] teas = new Tea[16];
+    private int[] orderCounts = new int[16];
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+    private int nextId;
+    private final Map<Tea, Integer> idsByTea = new IdentityHashMap<>();
+    // TeaMaker id -> shop id + 1, so orders by TeaMaker id stay an array index. Checked against teas before use.
+    private int[] idsByTeaMakerId = new int[16];
+
+    // Scratch space for serve, kept between calls so serving allocates nothing once it has grown.
+    private int[] teaStarts = new int[0];
+    private int[] groupedTables = new int[0];
+    private final StringBuilder batch = new StringBuilder();
+
+    public TeaShop(TeaMaker teaMaker) {
+        this.teaMaker = teaMaker;
+    }
+
+    // Goes through TeaMaker's cache, the name is not interned for good.
+    public void takeOrder(String teaType, int table) {
+        order(idOf(teaMaker.make(teaType)), table);
+    }
+
+    // For callers that interned the tea type once with TeaMaker.idOf.
+    public void takeOrder(int teaId, int table) {
+        // make(int) throws for ids TeaMaker never handed out, so those are never stored.
+        Tea tea = teaMaker.make(teaId);
+        int id = teaId < idsByTeaMakerId.length ? idsByTeaMakerId[teaId] - 1 : -1;
+        if (id < 0 || teas[id] != tea) {
+            id = idOf(tea);
+            if (teaId >= idsByTeaMakerId.length) {
+                idsByTeaMakerId = Arrays.copyOf(idsByTeaMakerId, Math.max(teaId + 1, idsByTeaMakerId.length * 2));
+            }
+            idsByTeaMakerId[teaId] = id + 1;
+        }
+        order(id, table);
+    }
+
+    // Groups the orders by tea, then lets each tea serve its tables in batches.
+    public void serve() {
+        int idLimit = orders.maxTeaId() + 1;
+        if (teaStarts.length < idLimit + 1) {
+            teaStarts = new int[idLimit + 1];
+        }
+        if (groupedTables.length < orders.size()) {
+            groupedTables = new int[orders.size()];
+        }
+        orders.groupByTea(teaStarts, groupedTables);
+        for (int id = 0; id < idLimit; id++) {
+            int end = teaStarts[id + 1];
+            if (teaStarts[id] == end) {
+                continue;
+            }
+            Tea tea = teas[id];
+            for (int from = teaStarts[id]; from < end; from += SERVE_BATCH) {
+                batch.setLength(0);
+                tea.serve(groupedTables, from, Math.min(from + SERVE_BATCH, end), batch);
+                System.out.print(batch);
+            }
+        }
+    }
+
+    private void order(int id, int table) {
+        // Counted before the put, so re-ordering the same tea for a table never frees its id in between.
+        orderCounts[id]++;
+        int previous = orders.put(table, id);
+        if (previous >= 0 && --orderCounts[previous] == 0) {
+            idsByTea.remove(teas[previous]);
+            teas[previous] = null;
+            freeIds[freeIdCount++] = previous;
+        }
+    }
+
+    private int idOf(Tea tea) {
+        Integer known = idsByTea.get(tea);
+        if (known != null) {
+            return known;
+        }
+        int id = freeIdCount > 0 ? freeIds[--freeIdCount] : nextId++;
+        if (id == teas.length) {
+            teas = Arrays.copyOf(teas, id * 2);
+            orderCounts = Arrays.copyOf(orderCounts, id * 2);
+            freeIds = Arrays.copyOf(freeIds, id * 2);
+        }
+        teas[id] = tea;
+        idsByTea.put(tea, id);
+        return id;
+    }
+}
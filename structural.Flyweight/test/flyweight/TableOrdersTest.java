@@ -0,0 +1,101 @@
+package flyweight;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// TableOrders against a HashMap<Integer, Integer> holding the same orders.
+class TableOrdersTest {
+    @Test
+    void anyIntIsATableNumber() {
+        TableOrders orders = new TableOrders(1);
+        int[] tables = {-1, 0, 1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int i = 0; i < tables.length; i++) {
+            assertEquals(-1, orders.put(tables[i], i));
+        }
+        for (int i = 0; i < tables.length; i++) {
+            assertEquals(i, orders.get(tables[i]));
+        }
+        assertEquals(tables.length, orders.size());
+        assertEquals(-1, orders.get(2));
+    }
+
+    @Test
+    void replacingAnOrderReturnsThePreviousTea() {
+        TableOrders orders = new TableOrders();
+        assertEquals(-1, orders.maxTeaId());
+        assertEquals(-1, orders.put(7, 3));
+        assertEquals(3, orders.put(7, 0));
+        assertEquals(0, orders.get(7));
+        assertEquals(1, orders.size());
+        // The highest id ever ordered, even once no table has it any more.
+        assertEquals(3, orders.maxTeaId());
+    }
+
+    @Test
+    void negativeTeaIdsAreRejected() {
+        TableOrders orders = new TableOrders();
+        assertThrows(IllegalArgumentException.class, () -> orders.put(1, -1));
+        assertEquals(0, orders.size());
+    }
+
+    @Test
+    void keepsEveryOrderAcrossResizes() {
+        TableOrders orders = new TableOrders(1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            // Consecutive tables, the usual case, mixed with arbitrary ones and replaced orders.
+            int table = random.nextBoolean() ? i / 2 : random.nextInt();
+            int teaId = random.nextInt(40);
+            Integer previous = expected.put(table, teaId);
+            assertEquals(previous == null ? -1 : previous, orders.put(table, teaId));
+        }
+        assertEquals(expected.size(), orders.size());
+        expected.forEach((table, teaId) -> assertEquals(teaId, orders.get(table)));
+        Map<Integer, Integer> visited = new HashMap<>();
+        orders.forEach((table, teaId) -> assertEquals(null, visited.put(table, teaId)));
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void groupByTeaListsEveryTableUnderItsTea() {
+        TableOrders orders = new TableOrders();
+        Map<Integer, List<Integer>> expected = new HashMap<>();
+        Random random = new Random(12);
+        for (int table = -500; table < 500; table++) {
+            // Tea 4 is never ordered, its range has to come out empty.
+            int teaId = random.nextInt(9);
+            if (teaId != 4) {
+                orders.put(table, teaId);
+                expected.computeIfAbsent(teaId, id -> new ArrayList<>()).add(table);
+            }
+        }
+        // Stale scratch content must not leak into the result.
+        int[] starts = new int[orders.maxTeaId() + 2];
+        int[] grouped = new int[orders.size()];
+        Arrays.fill(starts, 99);
+
+        orders.groupByTea(starts, grouped);
+
+        assertEquals(0, starts[0]);
+        assertEquals(orders.size(), starts[orders.maxTeaId() + 1]);
+        for (int teaId = 0; teaId <= orders.maxTeaId(); teaId++) {
+            int[] tables = Arrays.copyOfRange(grouped, starts[teaId], starts[teaId + 1]);
+            Arrays.sort(tables);
+            int[] expectedTables = expected.getOrDefault(teaId, List.of()).stream()
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertArrayEquals(expectedTables, tables, "tea " + teaId);
+        }
+    }
+}
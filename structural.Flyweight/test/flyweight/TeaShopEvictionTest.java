@@ -0,0 +1,41 @@
+package flyweight;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TeaShopEvictionTest {
+    @Test
+    void userDefinedTeaIsEvictedOnceNoTableOrdersIt() throws InterruptedException {
+        TeaMaker teaMaker = new TeaMaker(FlyweightCache.weakValues());
+        TeaShop shop = new TeaShop(teaMaker);
+        shop.takeOrder("lavender oat latte", 1);
+        // Replaces the only order of the custom tea, nothing references it any more.
+        shop.takeOrder("kadakTea", 1);
+
+        for (int attempt = 0; attempt < 50 && teaMaker.metrics().evictions() == 0; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            // Lookups expunge collected entries.
+            teaMaker.make("kadakTea");
+        }
+        assertEquals(1, teaMaker.metrics().evictions());
+        assertEquals(2, teaMaker.metrics().misses());
+    }
+
+    @Test
+    void orderedTeaIsNeverMadeTwice() throws InterruptedException {
+        TeaMaker teaMaker = new TeaMaker(FlyweightCache.weakValues());
+        TeaShop shop = new TeaShop(teaMaker);
+        shop.takeOrder("lavender oat latte", 1);
+        long misses = teaMaker.metrics().misses();
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            shop.takeOrder("lavender oat latte", 2 + attempt);
+        }
+        assertEquals(misses, teaMaker.metrics().misses());
+        assertEquals(0, teaMaker.metrics().evictions());
+    }
+}
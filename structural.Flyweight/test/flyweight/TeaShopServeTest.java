@@ -0,0 +1,110 @@
+package flyweight;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// What TeaShop.serve prints: every order once, the tables of one tea together, one print per batch of 1024.
+class TeaShopServeTest {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final ByteArrayOutputStream printed = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+    private int prints;
+
+    @BeforeEach
+    void captureSystemOut() {
+        this.originalOut = System.out;
+        System.setOut(new PrintStream(this.printed, true) {
+            @Override
+            public void print(Object batch) {
+                prints++;
+                super.print(batch);
+            }
+        });
+    }
+
+    @AfterEach
+    void restoreSystemOut() {
+        System.setOut(this.originalOut);
+    }
+
+    @Test
+    void karakTeaServesOnlyItsRangeOfTables() {
+        StringBuilder out = new StringBuilder("before|");
+
+        new KarakTea("Masala").serve(new int[]{4, 8, 15, 16}, 1, 3, out);
+
+        assertEquals("before|Serving Masala to table# 8" + LINE_SEPARATOR + "Serving Masala to table# 15"
+                + LINE_SEPARATOR, out.toString());
+    }
+
+    @Test
+    void servesEveryOrderOnceGroupedByTea() {
+        TeaMaker teaMaker = new TeaMaker();
+        TeaShop shop = new TeaShop(teaMaker);
+        Map<Integer, String> expected = new HashMap<>();
+        // The 2000 Karak tables take two batches, the other teas fit in one each.
+        for (int table = 0; table < 3_000; table++) {
+            String tea = table % 6 == 0 ? "Masala" : table % 6 == 1 ? "Ginger" : "Karak";
+            expected.put(table, tea);
+            if (tea.equals("Ginger")) {
+                shop.takeOrder(teaMaker.idOf(tea), table);
+            } else {
+                shop.takeOrder(tea, table);
+            }
+        }
+        // Moves table 0 from Masala to a tea nobody else ordered.
+        shop.takeOrder("Lemon", 0);
+        expected.put(0, "Lemon");
+
+        shop.serve();
+
+        Map<Integer, String> served = new HashMap<>();
+        List<String> teaOrder = new ArrayList<>();
+        for (String line : this.printed.toString().split(LINE_SEPARATOR)) {
+            String tea = line.substring("Serving ".length(), line.indexOf(" to table# "));
+            int table = Integer.parseInt(line.substring(line.indexOf("# ") + 2));
+            assertEquals(null, served.put(table, tea), "table " + table + " served twice");
+            if (teaOrder.isEmpty() || !teaOrder.get(teaOrder.size() - 1).equals(tea)) {
+                teaOrder.add(tea);
+            }
+        }
+        assertEquals(expected, served);
+        Set<String> teas = new LinkedHashSet<>(teaOrder);
+        assertEquals(teaOrder.size(), teas.size(), "tables of one tea are not together: " + teaOrder);
+        assertEquals(Set.of("Masala", "Ginger", "Karak", "Lemon"), teas);
+        // Karak: ceil(2000 / 1024) = 2, Masala: 499 and Ginger: 500 and Lemon: 1 take one each.
+        assertEquals(5, this.prints);
+    }
+
+    @Test
+    void servingTwiceGivesTheSameOrders() {
+        TeaShop shop = new TeaShop(new TeaMaker());
+        for (int table = 0; table < 2_049; table++) {
+            shop.takeOrder("Karak", table);
+        }
+
+        shop.serve();
+        String first = this.printed.toString();
+        this.printed.reset();
+        shop.serve();
+
+        assertEquals(first, this.printed.toString());
+        assertTrue(first.startsWith("Serving Karak to table# "));
+        // 1024 + 1024 + 1 for each serve.
+        assertEquals(6, this.prints);
+    }
+}